@@ -0,0 +1,85 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A thread-safe cache which evicts the least recently used entry when it exceeds the max size.
+ * It is for keys compared by equality, a value is computed outside the lock.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ConcurrentLruCache<K, V> {
+	private final Map<K, V> map;
+
+	public ConcurrentLruCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize should be positive. maxSize: " + maxSize);
+		}
+		this.map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	@Nullable
+	public V get(K key) {
+		synchronized (map) {
+			return map.get(key);
+		}
+	}
+
+	/**
+	 * mappingFunction could be called more than once for the key if it is called concurrently,
+	 * the value put first is returned.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+
+		V computed = mappingFunction.apply(key);
+		synchronized (map) {
+			V previous = map.putIfAbsent(key, computed);
+			return previous != null ? previous : computed;
+		}
+	}
+
+	public void put(K key, V value) {
+		synchronized (map) {
+			map.put(key, value);
+		}
+	}
+
+	public int size() {
+		synchronized (map) {
+			return map.size();
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A thread-safe cache which keys are compared by identity and weakly referenced.
+ * An entry is removed when its key is garbage collected, the oldest entry is evicted when it exceeds the max size.
+ * A lookup does not allocate, it is done by a lookup key reused in each thread.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ConcurrentWeakIdentityCache<K, V> {
+	private static final ThreadLocal<LookupKey> LOOKUP_KEY = ThreadLocal.withInitial(LookupKey::new);
+
+	private final int maxSize;
+	private final ConcurrentHashMap<Object, V> map;
+	// guarded by itself, only written when an entry is added or removed
+	private final Map<IdentityWeakReference<K>, Boolean> insertionOrder;
+	private final ReferenceQueue<K> collectedKeys = new ReferenceQueue<>();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public ConcurrentWeakIdentityCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize should be positive. maxSize: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.map = new ConcurrentHashMap<>();
+		this.insertionOrder = new LinkedHashMap<IdentityWeakReference<K>, Boolean>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<IdentityWeakReference<K>, Boolean> eldest) {
+				if (size() <= ConcurrentWeakIdentityCache.this.maxSize) {
+					return false;
+				}
+
+				if (map.remove(eldest.getKey()) != null) {
+					evictionCount.increment();
+				}
+				return true;
+			}
+		};
+	}
+
+	@Nullable
+	public V get(K key) {
+		V value = lookup(key);
+		if (value == null) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * mappingFunction is called at most once for the key unless the entry is evicted.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = lookup(key);
+		if (value != null) {
+			hitCount.increment();
+			return value;
+		}
+
+		missCount.increment();
+		expungeCollectedKeys();
+		IdentityWeakReference<K> reference = new IdentityWeakReference<>(key, collectedKeys);
+		boolean[] computed = new boolean[1];
+		value = map.computeIfAbsent(reference, it -> {
+			computed[0] = true;
+			return mappingFunction.apply(key);
+		});
+		if (computed[0]) {
+			addInsertionOrder(reference);
+		}
+		return value;
+	}
+
+	public void put(K key, V value) {
+		expungeCollectedKeys();
+		IdentityWeakReference<K> reference = new IdentityWeakReference<>(key, collectedKeys);
+		if (map.put(reference, value) == null) {
+			addInsertionOrder(reference);
+		}
+	}
+
+	public int size() {
+		return map.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Nullable
+	private V lookup(K key) {
+		LookupKey lookupKey = LOOKUP_KEY.get();
+		lookupKey.set(key);
+		try {
+			return map.get(lookupKey);
+		} finally {
+			lookupKey.clear();
+		}
+	}
+
+	private void addInsertionOrder(IdentityWeakReference<K> reference) {
+		synchronized (insertionOrder) {
+			insertionOrder.put(reference, Boolean.TRUE);
+		}
+	}
+
+	private void expungeCollectedKeys() {
+		Reference<? extends K> collected;
+		while ((collected = collectedKeys.poll()) != null) {
+			map.remove(collected);
+			synchronized (insertionOrder) {
+				insertionOrder.remove(collected);
+			}
+		}
+	}
+
+	private static final class IdentityWeakReference<T> extends WeakReference<T> {
+		private final int hashCode;
+
+		IdentityWeakReference(T referent, ReferenceQueue<? super T> queue) {
+			super(referent, queue);
+			this.hashCode = System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			Object referent = get();
+			if (referent == null) {
+				return false;
+			}
+			if (obj instanceof LookupKey) {
+				return referent == ((LookupKey)obj).key;
+			}
+			return obj instanceof IdentityWeakReference && referent == ((IdentityWeakReference<?>)obj).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class LookupKey {
+		@Nullable
+		private Object key;
+		private int hashCode;
+
+		private void set(Object key) {
+			this.key = key;
+			this.hashCode = System.identityHashCode(key);
+		}
+
+		private void clear() {
+			this.key = null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			return key != null && obj instanceof IdentityWeakReference && key == ((IdentityWeakReference<?>)obj).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
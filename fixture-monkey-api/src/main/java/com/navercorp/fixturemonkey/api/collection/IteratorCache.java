@@ -27,15 +27,15 @@ import org.apiguardian.api.API.Status;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class IteratorCache {
-	private static final LruCache<Iterator<?>, List<?>> ITERATOR_TO_LIST = new LruCache<>(1000);
+	private static final ConcurrentWeakIdentityCache<Iterator<?>, List<?>> ITERATOR_TO_LIST =
+		new ConcurrentWeakIdentityCache<>(1000);
 
 	public static List<?> getList(Iterator<?> iterator) {
-		if (ITERATOR_TO_LIST.containsKey(iterator)) {
-			return ITERATOR_TO_LIST.get(iterator);
-		}
-		List<?> list = toList(iterator);
-		ITERATOR_TO_LIST.put(iterator, list);
-		return list;
+		return ITERATOR_TO_LIST.computeIfAbsent(iterator, IteratorCache::toList);
+	}
+
+	public static ConcurrentWeakIdentityCache<Iterator<?>, List<?>> getCache() {
+		return ITERATOR_TO_LIST;
 	}
 
 	private static <T> List<T> toList(Iterator<T> iterator) {
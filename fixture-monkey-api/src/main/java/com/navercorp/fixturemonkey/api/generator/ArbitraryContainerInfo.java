@@ -68,6 +68,20 @@ public final class ArbitraryContainerInfo {
 		return new ArbitraryContainerInfo(this.elementMinSize, maxSize);
 	}
 
+	/**
+	 * Caps the sizes at the number of possible unique elements, such as the constants of an enum element of a Set.
+	 *
+	 * @param uniqueSize the number of possible unique elements, the sizes are not capped if null
+	 * @return the container info whose sizes are not greater than {@code uniqueSize}
+	 */
+	public ArbitraryContainerInfo withMaxUniqueSize(@Nullable Long uniqueSize) {
+		if (uniqueSize == null || this.elementMaxSize <= uniqueSize) {
+			return this;
+		}
+		int maxSize = uniqueSize.intValue();
+		return new ArbitraryContainerInfo(Math.min(this.elementMinSize, maxSize), maxSize);
+	}
+
 	@Override
 	public String toString() {
 		return "ArbitraryPropertyContainerInfo{"
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -54,6 +55,9 @@ public final class ArbitraryGeneratorContext {
 	@SuppressWarnings("rawtypes")
 	private final List<MatcherOperator<? extends FixtureCustomizer>> arbitraryCustomizers;
 
+	@SuppressWarnings("rawtypes")
+	private final List<Predicate> arbitraryFilters;
+
 	@SuppressWarnings("rawtypes")
 	public ArbitraryGeneratorContext(
 		ArbitraryProperty property,
@@ -61,12 +65,25 @@ public final class ArbitraryGeneratorContext {
 		@Nullable ArbitraryGeneratorContext ownerContext,
 		BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, Arbitrary<?>> resolveArbitrary,
 		List<MatcherOperator<? extends FixtureCustomizer>> arbitraryCustomizers
+	) {
+		this(property, children, ownerContext, resolveArbitrary, arbitraryCustomizers, Collections.emptyList());
+	}
+
+	@SuppressWarnings("rawtypes")
+	public ArbitraryGeneratorContext(
+		ArbitraryProperty property,
+		List<ArbitraryProperty> children,
+		@Nullable ArbitraryGeneratorContext ownerContext,
+		BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, Arbitrary<?>> resolveArbitrary,
+		List<MatcherOperator<? extends FixtureCustomizer>> arbitraryCustomizers,
+		List<Predicate> arbitraryFilters
 	) {
 		this.property = property;
 		this.children = new ArrayList<>(children);
 		this.ownerContext = ownerContext;
 		this.resolveArbitrary = resolveArbitrary;
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.arbitraryFilters = arbitraryFilters;
 	}
 
 	public ArbitraryProperty getArbitraryProperty() {
@@ -123,4 +140,13 @@ public final class ArbitraryGeneratorContext {
 	public List<MatcherOperator<? extends FixtureCustomizer>> getArbitraryCustomizers() {
 		return arbitraryCustomizers;
 	}
+
+	/**
+	 * Returns the filters which would be applied to the generated arbitrary.
+	 * A generator may narrow the arbitrary by a typed filter such as a range, to miss the filter less.
+	 */
+	@SuppressWarnings("rawtypes")
+	public List<Predicate> getArbitraryFilters() {
+		return arbitraryFilters;
+	}
 }
@@ -26,6 +26,7 @@ import java.util.Set;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.introspector.UniqueElementsArbitrary;
 import com.navercorp.fixturemonkey.api.property.ElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -56,8 +57,14 @@ public final class ContainerArbitraryPropertyGenerator implements ArbitraryPrope
 				.generate(context);
 		}
 
-		int size = containerInfo.getRandomSize();
 		AnnotatedType elementType = elementTypes.get(0);
+		if (Set.class.isAssignableFrom(containerType)) {
+			containerInfo = containerInfo.withMaxUniqueSize(
+				UniqueElementsArbitrary.getTypeKeySize(Types.getActualType(elementType))
+			);
+		}
+
+		int size = containerInfo.getRandomSize();
 		List<Property> childProperties = new ArrayList<>();
 		for (int sequence = 0; sequence < size; sequence++) {
 			Integer elementIndex = sequence;
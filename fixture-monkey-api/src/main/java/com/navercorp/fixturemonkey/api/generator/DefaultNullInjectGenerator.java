@@ -31,6 +31,9 @@ import javax.annotation.Nullable;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.collection.ConcurrentWeakIdentityCache;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -72,6 +75,10 @@ public final class DefaultNullInjectGenerator implements NullInjectGenerator {
 		)
 	);
 
+	private static final int ANNOTATION_FLAGS_CACHE_SIZE = 2048;
+	private static final int NULLABLE_ANNOTATION = 1;
+	private static final int NOT_NULL_ANNOTATION = 1 << 1;
+
 	private final double defaultNullInject;
 	private final boolean nullableContainer;
 	private final boolean defaultNotNull;
@@ -79,6 +86,8 @@ public final class DefaultNullInjectGenerator implements NullInjectGenerator {
 	private final boolean nullableElement;
 	private final Set<String> nullableAnnotationTypes;
 	private final Set<String> notNullAnnotationTypes;
+	private final ConcurrentWeakIdentityCache<Property, Integer> annotationFlagsByProperty =
+		new ConcurrentWeakIdentityCache<>(ANNOTATION_FLAGS_CACHE_SIZE);
 
 	public DefaultNullInjectGenerator() {
 		this(
@@ -134,16 +143,15 @@ public final class DefaultNullInjectGenerator implements NullInjectGenerator {
 			return NOT_NULL_INJECT;
 		}
 
-		if (Types.getActualType(context.getProperty().getType()).isPrimitive()) {
+		Property property = context.getProperty();
+		if (Types.getActualType(property.getType()).isPrimitive()) {
 			return NOT_NULL_INJECT;
 		}
 
-		Boolean nullable = context.getProperty().isNullable();
-		if (nullable == null) {
-			nullable = !this.defaultNotNull;
-		}
+		Boolean propertyNullable = property.isNullable();
+		boolean nullable = propertyNullable != null ? propertyNullable : !this.defaultNotNull;
 
-		if (containerInfo != null && context.getProperty().isNullable() == null) {
+		if (containerInfo != null && propertyNullable == null) {
 			nullable = this.nullableContainer;
 		}
 
@@ -151,26 +159,31 @@ public final class DefaultNullInjectGenerator implements NullInjectGenerator {
 			nullable = this.nullableElement;
 		}
 
-		Set<String> annotations = context.getProperty().getAnnotations().stream()
-			.map(it -> it.annotationType().getName())
-			.collect(toSet());
-
-		if (!nullable) {
-			boolean hasNullableAnnotation = annotations.stream()
-				.anyMatch(this.nullableAnnotationTypes::contains);
-			if (hasNullableAnnotation) {
-				nullable = true;
-			}
+		int annotationFlags = PropertyCache.isCacheable(property)
+			? annotationFlagsByProperty.computeIfAbsent(property, this::toAnnotationFlags)
+			: toAnnotationFlags(property);
+		if (!nullable && (annotationFlags & NULLABLE_ANNOTATION) != 0) {
+			nullable = true;
 		}
 
-		if (nullable) {
-			boolean hasNotNullAnnotation = annotations.stream()
-				.anyMatch(this.notNullAnnotationTypes::contains);
-			if (hasNotNullAnnotation) {
-				nullable = false;
-			}
+		if (nullable && (annotationFlags & NOT_NULL_ANNOTATION) != 0) {
+			nullable = false;
 		}
 
 		return nullable ? this.defaultNullInject : NOT_NULL_INJECT;
 	}
+
+	private int toAnnotationFlags(Property property) {
+		int annotationFlags = 0;
+		for (Annotation annotation : property.getAnnotations()) {
+			String annotationTypeName = annotation.annotationType().getName();
+			if (this.nullableAnnotationTypes.contains(annotationTypeName)) {
+				annotationFlags |= NULLABLE_ANNOTATION;
+			}
+			if (this.notNullAnnotationTypes.contains(annotationTypeName)) {
+				annotationFlags |= NOT_NULL_ANNOTATION;
+			}
+		}
+		return annotationFlags;
+	}
 }
@@ -25,6 +25,7 @@ import java.util.List;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.introspector.UniqueElementsArbitrary;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.MapKeyElementProperty;
 import com.navercorp.fixturemonkey.api.property.MapValueElementProperty;
@@ -55,10 +56,13 @@ public final class MapArbitraryPropertyGenerator implements ArbitraryPropertyGen
 				.generate(context);
 		}
 
-		int size = containerInfo.getRandomSize();
-
 		AnnotatedType keyType = genericsTypes.get(0);
 		AnnotatedType valueType = genericsTypes.get(1);
+		containerInfo = containerInfo.withMaxUniqueSize(
+			UniqueElementsArbitrary.getTypeKeySize(Types.getActualType(keyType))
+		);
+
+		int size = containerInfo.getRandomSize();
 
 		List<Property> childProperties = new ArrayList<>();
 		for (int sequence = 0; sequence < size; sequence++) {
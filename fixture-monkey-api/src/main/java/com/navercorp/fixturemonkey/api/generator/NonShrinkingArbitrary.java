@@ -0,0 +1,81 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.EdgeCases;
+import net.jqwik.api.ExhaustiveGenerator;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
+
+/**
+ * Generates the values of a delegate without keeping its {@link Shrinkable} tree and without edge cases.
+ * Each generated value is wrapped in an unshrinkable, which is enough to sample a fixture.
+ * <p>
+ * The delegate still builds a {@link Shrinkable} for each value, but its value is computed only once.
+ * A mapped or combined shrinkable of jqwik computes its value from its parts whenever it is asked,
+ * so an unwrapped node is computed again by each filter, map and enclosing node above it.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class NonShrinkingArbitrary<T> implements Arbitrary<T> {
+	private final Arbitrary<T> delegate;
+
+	private NonShrinkingArbitrary(Arbitrary<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	public static <T> Arbitrary<T> of(Arbitrary<T> arbitrary) {
+		if (arbitrary instanceof NonShrinkingArbitrary) {
+			return arbitrary;
+		}
+		return new NonShrinkingArbitrary<>(arbitrary);
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		RandomGenerator<T> generator = delegate.generator(genSize);
+		return random -> Shrinkable.unshrinkable(generator.next(random).value());
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize, boolean withEmbeddedEdgeCases) {
+		return generator(genSize);
+	}
+
+	@Override
+	public RandomGenerator<T> generatorWithEmbeddedEdgeCases(int genSize) {
+		return generator(genSize);
+	}
+
+	@Override
+	public EdgeCases<T> edgeCases(int maxEdgeCases) {
+		return EdgeCases.none();
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<T>> exhaustive(long maxNumberOfSamples) {
+		return delegate.exhaustive(maxNumberOfSamples);
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+
+/**
+ * Generates strings matching a regex by walking the transitions of its automaton.
+ * It is compiled once per regex, flags and length range, a walk only visits transitions
+ * which could reach an accept state within the remaining length.
+ * The maximum length is capped at the longest match if the regex matches finite strings,
+ * otherwise it is capped at {@value MAX_ADDITIONAL_LENGTH} characters more than the minimum length.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class RegexStringGenerator {
+	private static final int DEFAULT_MIN_LENGTH = 0;
+	private static final int DEFAULT_MAX_LENGTH = 255;
+	private static final int MAX_ADDITIONAL_LENGTH = 255;
+	private static final Map<String, String> PREDEFINED_CHARACTER_CLASSES;
+	// regexes and lengths come from annotations, which are not bounded
+	private static final ConcurrentLruCache<CacheKey, RegexStringGenerator> CACHE = new ConcurrentLruCache<>(1000);
+	// strings having a character greater than a space, which is not trimmed
+	private static final Automaton NOT_BLANK = Automaton.makeAnyString()
+		.concatenate(Automaton.makeCharRange('\u0021', '\uffff'))
+		.concatenate(Automaton.makeAnyString());
+
+	static {
+		Map<String, String> characterClasses = new LinkedHashMap<>();
+		characterClasses.put("\\\\d", "[0-9]");
+		characterClasses.put("\\\\D", "[^0-9]");
+		characterClasses.put("\\\\s", "[ \t\n\f\r]");
+		characterClasses.put("\\\\S", "[^ \t\n\f\r]");
+		characterClasses.put("\\\\w", "[a-zA-Z_0-9]");
+		characterClasses.put("\\\\W", "[^a-zA-Z_0-9]");
+		PREDEFINED_CHARACTER_CLASSES = Collections.unmodifiableMap(characterClasses);
+	}
+
+	private final String regex;
+	private final int initialState;
+	private final int[][] destinations;
+	private final char[][] minChars;
+	private final char[][] maxChars;
+	// acceptableLengths[state] has a bit n if an accept state is reachable with exactly n characters
+	private final BitSet[] acceptableLengths;
+	private final int[] lengths;
+
+	private RegexStringGenerator(String regex, Automaton automaton, int minLength, int maxLength) {
+		this.regex = regex;
+
+		List<State> states = new ArrayList<>(automaton.getStates());
+		Map<State, Integer> indexes = new IdentityHashMap<>();
+		for (int i = 0; i < states.size(); i++) {
+			indexes.put(states.get(i), i);
+		}
+
+		int stateSize = states.size();
+		this.initialState = indexes.get(automaton.getInitialState());
+		this.destinations = new int[stateSize][];
+		this.minChars = new char[stateSize][];
+		this.maxChars = new char[stateSize][];
+		for (int i = 0; i < stateSize; i++) {
+			List<Transition> transitions = states.get(i).getSortedTransitions(false);
+			int transitionSize = transitions.size();
+			destinations[i] = new int[transitionSize];
+			minChars[i] = new char[transitionSize];
+			maxChars[i] = new char[transitionSize];
+			for (int j = 0; j < transitionSize; j++) {
+				Transition transition = transitions.get(j);
+				destinations[i][j] = indexes.get(transition.getDest());
+				minChars[i][j] = transition.getMin();
+				maxChars[i][j] = transition.getMax();
+			}
+		}
+
+		int lengthBound = automaton.isFinite()
+			? maxLength
+			: (int)Math.min(maxLength, (long)minLength + MAX_ADDITIONAL_LENGTH);
+		this.acceptableLengths = new BitSet[stateSize];
+		for (int i = 0; i < stateSize; i++) {
+			acceptableLengths[i] = new BitSet();
+			acceptableLengths[i].set(0, states.get(i).isAccept());
+		}
+		for (int length = 1; length <= lengthBound; length++) {
+			boolean acceptable = false;
+			for (int i = 0; i < stateSize; i++) {
+				for (int destination : destinations[i]) {
+					if (acceptableLengths[destination].get(length - 1)) {
+						acceptableLengths[i].set(length);
+						acceptable = true;
+						break;
+					}
+				}
+			}
+
+			// no state accepts longer strings, it ends within the longest match of a finite regex
+			if (!acceptable) {
+				break;
+			}
+		}
+
+		this.lengths = acceptableLengths[initialState].stream()
+			.filter(it -> it >= minLength)
+			.toArray();
+	}
+
+	/**
+	 * Returns a cached generator.
+	 *
+	 * @param regex  the regex, predefined character classes such as {@code \d} are supported
+	 * @param flags  the syntax flags of {@link RegExp}
+	 * @param min    the minimum length of generated strings, 0 if null
+	 * @param max    the maximum length of generated strings, the greater of 255 and {@code min} if null
+	 * @return the generator
+	 */
+	public static RegexStringGenerator of(String regex, int flags, @Nullable Integer min, @Nullable Integer max) {
+		return of(regex, flags, min, max, false);
+	}
+
+	/**
+	 * Returns a cached generator.
+	 *
+	 * @param regex    the regex, predefined character classes such as {@code \d} are supported
+	 * @param flags    the syntax flags of {@link RegExp}
+	 * @param min      the minimum length of generated strings, 0 if null
+	 * @param max      the maximum length of generated strings, the greater of 255 and {@code min} if null
+	 * @param notBlank generates only strings having a character which is not trimmed by {@link String#trim()}
+	 * @return the generator
+	 */
+	public static RegexStringGenerator of(
+		String regex,
+		int flags,
+		@Nullable Integer min,
+		@Nullable Integer max,
+		boolean notBlank
+	) {
+		int minLength = min != null ? min : DEFAULT_MIN_LENGTH;
+		int maxLength = max != null ? max : Math.max(DEFAULT_MAX_LENGTH, minLength);
+		return CACHE.computeIfAbsent(
+			new CacheKey(regex, flags, minLength, maxLength, notBlank),
+			key -> compile(key.regex, key.flags, key.minLength, key.maxLength, key.notBlank)
+		);
+	}
+
+	public String generate(Random random) {
+		if (lengths.length == 0) {
+			throw new IllegalArgumentException("No string matches the regex. regex: " + regex);
+		}
+
+		int length = lengths[random.nextInt(lengths.length)];
+		StringBuilder stringBuilder = new StringBuilder(length);
+		int state = initialState;
+		for (int remaining = length; remaining > 0; remaining--) {
+			int transition = chooseTransition(state, remaining - 1, random);
+			char min = minChars[state][transition];
+			char max = maxChars[state][transition];
+			stringBuilder.append((char)(min + random.nextInt(max - min + 1)));
+			state = destinations[state][transition];
+		}
+		return stringBuilder.toString();
+	}
+
+	public Arbitrary<String> arbitrary() {
+		return Arbitraries.randomValue(this::generate);
+	}
+
+	private int chooseTransition(int state, int remaining, Random random) {
+		int[] stateDestinations = destinations[state];
+		int candidateSize = 0;
+		for (int destination : stateDestinations) {
+			if (acceptableLengths[destination].get(remaining)) {
+				candidateSize++;
+			}
+		}
+
+		int chosen = random.nextInt(candidateSize);
+		for (int i = 0; i < stateDestinations.length; i++) {
+			if (acceptableLengths[stateDestinations[i]].get(remaining) && chosen-- == 0) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("No transition to choose. regex: " + regex);
+	}
+
+	private static RegexStringGenerator compile(
+		String regex,
+		int flags,
+		int minLength,
+		int maxLength,
+		boolean notBlank
+	) {
+		String convertedRegex = regex;
+		for (Map.Entry<String, String> charClass : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
+			convertedRegex = convertedRegex.replaceAll(charClass.getKey(), charClass.getValue());
+		}
+
+		Automaton automaton = new RegExp(convertedRegex, flags).toAutomaton();
+		if (notBlank) {
+			automaton = automaton.intersection(NOT_BLANK);
+		}
+		return new RegexStringGenerator(regex, automaton, minLength, maxLength);
+	}
+
+	private static final class CacheKey {
+		private final String regex;
+		private final int flags;
+		private final int minLength;
+		private final int maxLength;
+		private final boolean notBlank;
+
+		private CacheKey(String regex, int flags, int minLength, int maxLength, boolean notBlank) {
+			this.regex = regex;
+			this.flags = flags;
+			this.minLength = minLength;
+			this.maxLength = maxLength;
+			this.notBlank = notBlank;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CacheKey that = (CacheKey)obj;
+			return flags == that.flags
+				&& minLength == that.minLength
+				&& maxLength == that.maxLength
+				&& notBlank == that.notBlank
+				&& regex.equals(that.regex);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(regex, flags, minLength, maxLength, notBlank);
+		}
+	}
+}
@@ -19,23 +19,22 @@
 package com.navercorp.fixturemonkey.api.introspector;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitrary;
-import net.jqwik.api.Builders;
-import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.property.AccessorFactory;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyCache;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -57,7 +56,8 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 		Map<String, PropertyDescriptor> propertyDescriptors = PropertyCache.getPropertyDescriptors(type);
-		BuilderCombinator<?> builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(type));
+		Supplier<?> constructor = AccessorFactory.constructorFailingOnCall(type);
+		ConstructAndAssignArbitrary.Builder<Object> builder = ConstructAndAssignArbitrary.builder(constructor::get);
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String originPropertyName = arbitraryProperty.getProperty().getName();
 			PropertyDescriptor propertyDescriptor = propertyDescriptors.get(originPropertyName);
@@ -69,21 +69,28 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 			String resolvePropertyName = arbitraryProperty.getResolvePropertyName();
 			Arbitrary<?> arbitrary = childrenArbitraries.get(resolvePropertyName);
 			if (arbitrary != null) {
-				builderCombinator = builderCombinator.use(arbitrary).in((b, v) -> {
+				BiConsumer<Object, Object> setter;
+				try {
+					setter = AccessorFactory.setter(writeMethod);
+				} catch (IllegalArgumentException e) {
+					log.warn(e, () -> "set bean property is failed. name: " + writeMethod.getName());
+					continue;
+				}
+
+				builder.assign(arbitrary, (b, v) -> {
 					try {
 						if (v != null) {
-							writeMethod.invoke(b, v);
+							setter.accept(b, v);
 						}
-					} catch (IllegalAccessException | InvocationTargetException e) {
+					} catch (RuntimeException e) {
 						log.warn(e,
 							() -> "set bean property is failed. name: " + writeMethod.getName() + " value: " + v
 						);
 					}
-					return b;
 				});
 			}
 		}
 
-		return new ArbitraryIntrospectorResult(builderCombinator.build());
+		return new ArbitraryIntrospectorResult(builder.build());
 	}
 }
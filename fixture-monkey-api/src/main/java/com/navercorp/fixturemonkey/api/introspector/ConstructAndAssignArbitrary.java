@@ -0,0 +1,184 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.EdgeCases;
+import net.jqwik.api.ExhaustiveGenerator;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
+import net.jqwik.api.ShrinkingDistance;
+
+/**
+ * Generates an object by constructing it and assigning the values of its children in one loop.
+ * Unlike folding children by {@link net.jqwik.api.Builders}, it does not create a combinator per child,
+ * a wide object does not make a deep chain of combinators.
+ * Edge cases and exhaustive generation are delegated to a flat jqwik combinator, which is created only if needed.
+ *
+ * @param <T> the type of the generated object
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ConstructAndAssignArbitrary<T> implements Arbitrary<T> {
+	private final Supplier<T> constructor;
+	private final Arbitrary<?>[] childArbitraries;
+	private final BiConsumer<T, Object>[] assigners;
+
+	private ConstructAndAssignArbitrary(
+		Supplier<T> constructor,
+		Arbitrary<?>[] childArbitraries,
+		BiConsumer<T, Object>[] assigners
+	) {
+		this.constructor = constructor;
+		this.childArbitraries = childArbitraries;
+		this.assigners = assigners;
+	}
+
+	public static <T> Builder<T> builder(Supplier<T> constructor) {
+		return new Builder<>(constructor);
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		RandomGenerator<?>[] generators = new RandomGenerator<?>[childArbitraries.length];
+		for (int i = 0; i < childArbitraries.length; i++) {
+			generators[i] = childArbitraries[i].generator(genSize);
+		}
+
+		return random -> generate(generators, random);
+	}
+
+	@Override
+	public EdgeCases<T> edgeCases(int maxEdgeCases) {
+		return combined().edgeCases(maxEdgeCases);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<T>> exhaustive(long maxNumberOfSamples) {
+		return combined().exhaustive(maxNumberOfSamples);
+	}
+
+	private Shrinkable<T> generate(RandomGenerator<?>[] generators, Random random) {
+		Shrinkable<?>[] children = new Shrinkable<?>[generators.length];
+		for (int i = 0; i < generators.length; i++) {
+			children[i] = generators[i].next(random);
+		}
+		return new ConstructAndAssignShrinkable(children);
+	}
+
+	private T assemble(List<?> values) {
+		T object = constructor.get();
+		for (int i = 0; i < assigners.length; i++) {
+			assigners[i].accept(object, values.get(i));
+		}
+		return object;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Arbitrary<T> combined() {
+		List<Arbitrary<Object>> arbitraries = new ArrayList<>(childArbitraries.length);
+		for (Arbitrary<?> childArbitrary : childArbitraries) {
+			arbitraries.add((Arbitrary<Object>)childArbitrary);
+		}
+		return Combinators.combine(arbitraries).as(this::assemble);
+	}
+
+	private final class ConstructAndAssignShrinkable implements Shrinkable<T> {
+		private final Shrinkable<?>[] children;
+
+		private ConstructAndAssignShrinkable(Shrinkable<?>[] children) {
+			this.children = children;
+		}
+
+		@Override
+		public T value() {
+			T object = constructor.get();
+			for (int i = 0; i < children.length; i++) {
+				assigners[i].accept(object, children[i].value());
+			}
+			return object;
+		}
+
+		@Override
+		public Stream<Shrinkable<T>> shrink() {
+			return IntStream.range(0, children.length)
+				.boxed()
+				.flatMap(index -> children[index].shrink().map(shrunk -> replace(index, shrunk)));
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		public ShrinkingDistance distance() {
+			return ShrinkingDistance.combine((List)Arrays.asList(children));
+		}
+
+		private Shrinkable<T> replace(int index, Shrinkable<?> child) {
+			Shrinkable<?>[] replaced = children.clone();
+			replaced[index] = child;
+			return new ConstructAndAssignShrinkable(replaced);
+		}
+	}
+
+	public static final class Builder<T> {
+		private final Supplier<T> constructor;
+		private final List<Arbitrary<?>> childArbitraries = new ArrayList<>();
+		private final List<BiConsumer<T, Object>> assigners = new ArrayList<>();
+
+		private Builder(Supplier<T> constructor) {
+			this.constructor = constructor;
+		}
+
+		/**
+		 * Adds a child, its value is assigned to the constructed object in the order of addition.
+		 *
+		 * @param childArbitrary generates the value of the child
+		 * @param assigner       assigns the value to the constructed object
+		 * @return this builder
+		 */
+		@SuppressWarnings("unchecked")
+		public <U> Builder<T> assign(Arbitrary<U> childArbitrary, BiConsumer<T, ? super U> assigner) {
+			this.childArbitraries.add(childArbitrary);
+			this.assigners.add((BiConsumer<T, Object>)assigner);
+			return this;
+		}
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		public ConstructAndAssignArbitrary<T> build() {
+			return new ConstructAndAssignArbitrary<>(
+				constructor,
+				childArbitraries.toArray(new Arbitrary<?>[0]),
+				assigners.toArray(new BiConsumer[0])
+			);
+		}
+	}
+}
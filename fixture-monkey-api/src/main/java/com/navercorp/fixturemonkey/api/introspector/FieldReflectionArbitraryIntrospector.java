@@ -21,19 +21,19 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitrary;
-import net.jqwik.api.Builders;
-import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.property.AccessorFactory;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyCache;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -55,7 +55,8 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 		Map<String, Field> fields = PropertyCache.getFields(type);
-		BuilderCombinator<?> builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(type));
+		Supplier<?> constructor = AccessorFactory.constructorFailingOnCall(type);
+		ConstructAndAssignArbitrary.Builder<Object> builder = ConstructAndAssignArbitrary.builder(constructor::get);
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String originPropertyName = arbitraryProperty.getProperty().getName();
 			Field field = fields.get(originPropertyName);
@@ -65,21 +66,22 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 			}
 
 			String resolvePropertyName = arbitraryProperty.getResolvePropertyName();
+			BiConsumer<Object, Object> setter;
+			try {
+				setter = AccessorFactory.setter(field);
+			} catch (IllegalArgumentException e) {
+				log.warn(e, () -> "set field by reflection is failed. field: " + resolvePropertyName);
+				continue;
+			}
+
 			Arbitrary<?> arbitrary = childrenArbitraries.get(resolvePropertyName);
-			builderCombinator = builderCombinator.use(arbitrary).in((object, value) -> {
-				try {
-					if (value != null) {
-						field.set(object, value);
-					}
-				} catch (IllegalAccessException e) {
-					log.warn(e,
-						() -> "set field by reflection is failed. field: " + resolvePropertyName + " value: " + value
-					);
+			builder.assign(arbitrary, (object, value) -> {
+				if (value != null) {
+					setter.accept(object, value);
 				}
-				return object;
 			});
 		}
 
-		return new ArbitraryIntrospectorResult(builderCombinator.build());
+		return new ArbitraryIntrospectorResult(builder.build());
 	}
 }
@@ -20,21 +20,39 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import net.jqwik.api.arbitraries.BigDecimalArbitrary;
+import net.jqwik.api.arbitraries.BigIntegerArbitrary;
+import net.jqwik.api.arbitraries.ByteArbitrary;
+import net.jqwik.api.arbitraries.DoubleArbitrary;
+import net.jqwik.api.arbitraries.FloatArbitrary;
+import net.jqwik.api.arbitraries.IntegerArbitrary;
+import net.jqwik.api.arbitraries.LongArbitrary;
+import net.jqwik.api.arbitraries.ShortArbitrary;
+import net.jqwik.api.arbitraries.StringArbitrary;
+
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
+import com.navercorp.fixturemonkey.api.postcondition.LengthPostCondition;
+import com.navercorp.fixturemonkey.api.postcondition.RangePostCondition;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
+	private static final int DEFAULT_SCALE = 2;
+
 	private final Map<Class<?>, Function<ArbitraryGeneratorContext, ArbitraryIntrospectorResult>> introspector;
 
 	public JavaArbitraryIntrospector() {
@@ -79,7 +97,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			String.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.strings(
-					arbitraryGenerator.strings(),
+					narrowStrings(arbitraryGenerator.strings(), ctx),
 					ctx
 				)
 			)
@@ -109,7 +127,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			short.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.shorts(
-					arbitraryGenerator.shorts(),
+					narrowShorts(arbitraryGenerator.shorts(), ctx),
 					ctx
 				)
 			)
@@ -119,7 +137,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			Short.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.shorts(
-					arbitraryGenerator.shorts(),
+					narrowShorts(arbitraryGenerator.shorts(), ctx),
 					ctx
 				)
 			)
@@ -129,7 +147,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			byte.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.bytes(
-					arbitraryGenerator.bytes(),
+					narrowBytes(arbitraryGenerator.bytes(), ctx),
 					ctx
 				)
 			)
@@ -139,7 +157,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			Byte.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.bytes(
-					arbitraryGenerator.bytes(),
+					narrowBytes(arbitraryGenerator.bytes(), ctx),
 					ctx
 				)
 			)
@@ -149,7 +167,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			double.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.doubles(
-					arbitraryGenerator.doubles(),
+					narrowDoubles(arbitraryGenerator.doubles(), ctx),
 					ctx
 				)
 			)
@@ -159,7 +177,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			Double.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.doubles(
-					arbitraryGenerator.doubles(),
+					narrowDoubles(arbitraryGenerator.doubles(), ctx),
 					ctx
 				)
 			)
@@ -169,7 +187,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			float.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.floats(
-					arbitraryGenerator.floats(),
+					narrowFloats(arbitraryGenerator.floats(), ctx),
 					ctx
 				)
 			)
@@ -179,7 +197,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			Float.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.floats(
-					arbitraryGenerator.floats(),
+					narrowFloats(arbitraryGenerator.floats(), ctx),
 					ctx
 				)
 			)
@@ -189,7 +207,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			int.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.integers(
-					arbitraryGenerator.integers(),
+					narrowIntegers(arbitraryGenerator.integers(), ctx),
 					ctx
 				)
 			)
@@ -199,7 +217,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			Integer.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.integers(
-					arbitraryGenerator.integers(),
+					narrowIntegers(arbitraryGenerator.integers(), ctx),
 					ctx
 				)
 			)
@@ -209,7 +227,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			long.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.longs(
-					arbitraryGenerator.longs(),
+					narrowLongs(arbitraryGenerator.longs(), ctx),
 					ctx
 				)
 			)
@@ -219,7 +237,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			Long.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.longs(
-					arbitraryGenerator.longs(),
+					narrowLongs(arbitraryGenerator.longs(), ctx),
 					ctx
 				)
 			)
@@ -229,7 +247,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			BigInteger.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.bigIntegers(
-					arbitraryGenerator.bigIntegers(),
+					narrowBigIntegers(arbitraryGenerator.bigIntegers(), ctx),
 					ctx
 				)
 			)
@@ -239,7 +257,7 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 			BigDecimal.class,
 			ctx -> new ArbitraryIntrospectorResult(
 				arbitraryResolver.bigDecimals(
-					arbitraryGenerator.bigDecimals(),
+					narrowBigDecimals(arbitraryGenerator.bigDecimals(), ctx),
 					ctx
 				)
 			)
@@ -247,4 +265,161 @@ public final class JavaArbitraryIntrospector implements ArbitraryIntrospector, M
 
 		return Collections.unmodifiableMap(introspector);
 	}
+
+	// a range or length postcondition bounds the arbitrary, the postcondition is still applied as a filter
+	private static StringArbitrary narrowStrings(StringArbitrary arbitrary, ArbitraryGeneratorContext context) {
+		int minLength = 0;
+		int maxLength = Integer.MAX_VALUE;
+		boolean bounded = false;
+		for (Predicate<?> filter : context.getArbitraryFilters()) {
+			if (filter instanceof LengthPostCondition) {
+				LengthPostCondition<?> lengthPostCondition = (LengthPostCondition<?>)filter;
+				minLength = Math.max(minLength, lengthPostCondition.getMinLength());
+				maxLength = Math.min(maxLength, lengthPostCondition.getMaxLength());
+				bounded = true;
+			}
+		}
+
+		if (!bounded || minLength > maxLength) {
+			return arbitrary;
+		}
+		return arbitrary.ofMinLength(minLength).ofMaxLength(maxLength);
+	}
+
+	private static ShortArbitrary narrowShorts(ShortArbitrary arbitrary, ArbitraryGeneratorContext context) {
+		BigDecimal[] range = findIntegralRange(context, Short.MIN_VALUE, Short.MAX_VALUE);
+		if (range == null) {
+			return arbitrary;
+		}
+		return arbitrary.between(range[0].shortValueExact(), range[1].shortValueExact());
+	}
+
+	private static ByteArbitrary narrowBytes(ByteArbitrary arbitrary, ArbitraryGeneratorContext context) {
+		BigDecimal[] range = findIntegralRange(context, Byte.MIN_VALUE, Byte.MAX_VALUE);
+		if (range == null) {
+			return arbitrary;
+		}
+		return arbitrary.between(range[0].byteValueExact(), range[1].byteValueExact());
+	}
+
+	private static IntegerArbitrary narrowIntegers(IntegerArbitrary arbitrary, ArbitraryGeneratorContext context) {
+		BigDecimal[] range = findIntegralRange(context, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		if (range == null) {
+			return arbitrary;
+		}
+		return arbitrary.between(range[0].intValueExact(), range[1].intValueExact());
+	}
+
+	private static LongArbitrary narrowLongs(LongArbitrary arbitrary, ArbitraryGeneratorContext context) {
+		BigDecimal[] range = findIntegralRange(context, Long.MIN_VALUE, Long.MAX_VALUE);
+		if (range == null) {
+			return arbitrary;
+		}
+		return arbitrary.between(range[0].longValueExact(), range[1].longValueExact());
+	}
+
+	private static BigIntegerArbitrary narrowBigIntegers(
+		BigIntegerArbitrary arbitrary,
+		ArbitraryGeneratorContext context
+	) {
+		BigDecimal[] range = findRange(context);
+		if (range == null) {
+			return arbitrary;
+		}
+
+		BigInteger min = range[0].setScale(0, RoundingMode.CEILING).toBigIntegerExact();
+		BigInteger max = range[1].setScale(0, RoundingMode.FLOOR).toBigIntegerExact();
+		if (min.compareTo(max) > 0) {
+			return arbitrary;
+		}
+		return arbitrary.between(min, max);
+	}
+
+	private static DoubleArbitrary narrowDoubles(DoubleArbitrary arbitrary, ArbitraryGeneratorContext context) {
+		BigDecimal[] range = findRange(context);
+		if (range == null) {
+			return arbitrary;
+		}
+
+		double min = Math.max(range[0].doubleValue(), -Double.MAX_VALUE);
+		double max = Math.min(range[1].doubleValue(), Double.MAX_VALUE);
+		DoubleArbitrary narrowed = arbitrary.between(min, max);
+		int scale = getScale(range);
+		return scale > DEFAULT_SCALE ? narrowed.ofScale(scale) : narrowed;
+	}
+
+	private static FloatArbitrary narrowFloats(FloatArbitrary arbitrary, ArbitraryGeneratorContext context) {
+		BigDecimal[] range = findRange(context);
+		if (range == null) {
+			return arbitrary;
+		}
+
+		float min = Math.max(range[0].floatValue(), -Float.MAX_VALUE);
+		float max = Math.min(range[1].floatValue(), Float.MAX_VALUE);
+		FloatArbitrary narrowed = arbitrary.between(min, max);
+		int scale = getScale(range);
+		return scale > DEFAULT_SCALE ? narrowed.ofScale(scale) : narrowed;
+	}
+
+	private static BigDecimalArbitrary narrowBigDecimals(
+		BigDecimalArbitrary arbitrary,
+		ArbitraryGeneratorContext context
+	) {
+		BigDecimal[] range = findRange(context);
+		if (range == null) {
+			return arbitrary;
+		}
+
+		BigDecimalArbitrary narrowed = arbitrary.between(range[0], range[1]);
+		int scale = getScale(range);
+		return scale > DEFAULT_SCALE ? narrowed.ofScale(scale) : narrowed;
+	}
+
+	// jqwik can not generate a decimal range which has no number of its scale, such as [0.001, 0.002] in scale 2
+	private static int getScale(BigDecimal[] range) {
+		return Math.max(range[0].stripTrailingZeros().scale(), range[1].stripTrailingZeros().scale());
+	}
+
+	/**
+	 * Returns the integral intersection of range postconditions within the range of a type.
+	 *
+	 * @return min and max, null if there is no range postcondition or the intersection is empty
+	 */
+	@Nullable
+	private static BigDecimal[] findIntegralRange(ArbitraryGeneratorContext context, long typeMin, long typeMax) {
+		BigDecimal[] range = findRange(context);
+		if (range == null) {
+			return null;
+		}
+
+		BigDecimal min = range[0].setScale(0, RoundingMode.CEILING).max(BigDecimal.valueOf(typeMin));
+		BigDecimal max = range[1].setScale(0, RoundingMode.FLOOR).min(BigDecimal.valueOf(typeMax));
+		if (min.compareTo(max) > 0) {
+			return null;
+		}
+		return new BigDecimal[] {min, max};
+	}
+
+	/**
+	 * Returns the intersection of range postconditions.
+	 *
+	 * @return min and max, null if there is no range postcondition or the intersection is empty
+	 */
+	@Nullable
+	private static BigDecimal[] findRange(ArbitraryGeneratorContext context) {
+		BigDecimal min = null;
+		BigDecimal max = null;
+		for (Predicate<?> filter : context.getArbitraryFilters()) {
+			if (filter instanceof RangePostCondition) {
+				RangePostCondition<?> rangePostCondition = (RangePostCondition<?>)filter;
+				min = min == null ? rangePostCondition.getMin() : min.max(rangePostCondition.getMin());
+				max = max == null ? rangePostCondition.getMax() : max.min(rangePostCondition.getMax());
+			}
+		}
+
+		if (min == null || max == null || min.compareTo(max) > 0) {
+			return null;
+		}
+		return new BigDecimal[] {min, max};
+	}
 }
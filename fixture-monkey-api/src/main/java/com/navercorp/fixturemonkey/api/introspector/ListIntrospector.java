@@ -25,8 +25,6 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
-import net.jqwik.api.Builders;
-import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
@@ -53,14 +51,13 @@ public final class ListIntrospector implements ArbitraryIntrospector, Matcher {
 		}
 
 		List<Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts().getArbitraries();
-		BuilderCombinator<List<Object>> builderCombinator = Builders.withBuilder(ArrayList::new);
+		ConstructAndAssignArbitrary.Builder<List<Object>> builder = ConstructAndAssignArbitrary.builder(
+			() -> new ArrayList<>(childrenArbitraries.size())
+		);
 		for (Arbitrary<?> childArbitrary : childrenArbitraries) {
-			builderCombinator = builderCombinator.use(childArbitrary).in((list, element) -> {
-				list.add(element);
-				return list;
-			});
+			builder.assign(childArbitrary, List::add);
 		}
 
-		return new ArbitraryIntrospectorResult(builderCombinator.build());
+		return new ArbitraryIntrospectorResult(builder.build());
 	}
 }
@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +28,6 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
-import net.jqwik.api.Builders;
-import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
@@ -36,6 +36,7 @@ import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty.MapEntryElementType;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
@@ -55,20 +56,25 @@ public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
 		}
 
 		List<Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts().getArbitraries();
-
-		BuilderCombinator<Map<Object, Object>> builderCombinator = Builders.withBuilder(HashMap::new);
-		for (Arbitrary<?> child : childrenArbitraries) {
-			builderCombinator = builderCombinator
-				.use(child).in((map, value) -> {
-					MapEntryElementType entryElement = (MapEntryElementType)value;
-					map.put(entryElement.getKey(), entryElement.getValue());
-					return map;
-				});
-		}
+		AnnotatedType annotatedType = property.getProperty().getAnnotatedType();
+		Class<?> keyType = annotatedType instanceof AnnotatedParameterizedType
+			? Types.getActualType(((AnnotatedParameterizedType)annotatedType).getAnnotatedActualTypeArguments()[0])
+			: null;
 
 		return new ArbitraryIntrospectorResult(
-			builderCombinator.build()
-			// .filter(it -> it.size() == childrenArbitraries.size())
+			new UniqueElementsArbitrary(
+				childrenArbitraries,
+				it -> ((MapEntryElementType)it).getKey(),
+				keyType,
+				containerInfo.getElementMinSize()
+			).map(entries -> {
+				Map<Object, Object> map = new HashMap<>();
+				for (Object entry : entries) {
+					MapEntryElementType entryElement = (MapEntryElementType)entry;
+					map.put(entryElement.getKey(), entryElement.getValue());
+				}
+				return map;
+			})
 		);
 	}
 }
@@ -18,16 +18,17 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
-import net.jqwik.api.Builders;
-import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
@@ -35,6 +36,7 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
@@ -54,19 +56,18 @@ public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
 		}
 
 		List<Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts().getArbitraries();
-
-		BuilderCombinator<Set<Object>> builderCombinator = Builders.withBuilder(HashSet::new);
-		for (Arbitrary<?> childArbitrary : childrenArbitraries) {
-			builderCombinator = builderCombinator.use(childArbitrary).in((set, element) -> {
-				set.add(element);
-				return set;
-			});
-		}
+		AnnotatedType annotatedType = property.getProperty().getAnnotatedType();
+		Class<?> elementType = annotatedType instanceof AnnotatedParameterizedType
+			? Types.getActualType(((AnnotatedParameterizedType)annotatedType).getAnnotatedActualTypeArguments()[0])
+			: null;
 
 		return new ArbitraryIntrospectorResult(
-			builderCombinator
-				.build()
-				.filter(it -> it.size() == childrenArbitraries.size())
+			new UniqueElementsArbitrary(
+				childrenArbitraries,
+				Function.identity(),
+				elementType,
+				containerInfo.getElementMinSize()
+			).map(HashSet::new)
 		);
 	}
 }
@@ -0,0 +1,212 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.EdgeCases;
+import net.jqwik.api.ExhaustiveGenerator;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
+import net.jqwik.api.TooManyFilterMissesException;
+
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Generates elements whose unique keys do not collide, only a colliding element is generated again.
+ * The number of elements is capped at the number of possible keys, which is known by the key type such as an enum
+ * or by enumerating the values of the element arbitraries such as a small range of integers.
+ * It throws an exception if the minimum size is greater than the number of possible keys,
+ * or if fewer elements than the minimum size are generated after retries.
+ * A container node whose key type has few possible keys is resized by {@link #getTypeKeySize(Class)} beforehand.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class UniqueElementsArbitrary implements Arbitrary<List<Object>> {
+	private static final int MAX_TRIES = 100;
+	private static final long MAX_ENUMERATED_VALUES = 1000L;
+	private static final long NOT_ENUMERABLE = -1L;
+
+	private final List<Arbitrary<?>> elementArbitraries;
+	private final Function<Object, Object> uniqueKeyExtractor;
+	@Nullable
+	private final Long typeKeySize;
+	private final int minSize;
+	@Nullable
+	private volatile Long enumeratedKeySize;
+
+	/**
+	 * @param elementArbitraries the arbitraries of each element
+	 * @param uniqueKeyExtractor extracts the key which should be unique from an element
+	 * @param keyType            the type of the key, it is used to know the number of possible keys
+	 * @param minSize            the minimum number of elements, such as the size set by a manipulator
+	 */
+	public UniqueElementsArbitrary(
+		List<Arbitrary<?>> elementArbitraries,
+		Function<Object, Object> uniqueKeyExtractor,
+		@Nullable Class<?> keyType,
+		int minSize
+	) {
+		this.elementArbitraries = elementArbitraries;
+		this.uniqueKeyExtractor = uniqueKeyExtractor;
+		this.typeKeySize = getTypeKeySize(keyType);
+		this.minSize = Math.min(minSize, elementArbitraries.size());
+	}
+
+	/**
+	 * Returns the number of possible keys of the key type, null is not counted as it is not always generated.
+	 *
+	 * @param keyType the type of the key
+	 * @return the number of possible keys, null if it is not known by the type
+	 */
+	@Nullable
+	public static Long getTypeKeySize(@Nullable Class<?> keyType) {
+		if (keyType == null) {
+			return null;
+		}
+
+		if (keyType.isEnum()) {
+			return (long)keyType.getEnumConstants().length;
+		}
+
+		if (Types.primitiveToWrapper(keyType) == Boolean.class) {
+			return 2L;
+		}
+		return null;
+	}
+
+	@Override
+	public RandomGenerator<List<Object>> generator(int genSize) {
+		int size = getSize();
+		List<RandomGenerator<?>> generators = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			generators.add(elementArbitraries.get(i).generator(genSize));
+		}
+
+		return random -> {
+			List<Object> elements = new ArrayList<>(size);
+			Set<Object> keys = new HashSet<>();
+			for (RandomGenerator<?> generator : generators) {
+				addUnique(generator, keys, elements, random);
+			}
+			checkMinSize(elements.size());
+			return Shrinkable.unshrinkable(elements);
+		};
+	}
+
+	@Override
+	public EdgeCases<List<Object>> edgeCases(int maxEdgeCases) {
+		return EdgeCases.none();
+	}
+
+	private int getSize() {
+		long keySize = typeKeySize != null ? typeKeySize : getEnumeratedKeySize();
+		if (keySize == NOT_ENUMERABLE || keySize >= elementArbitraries.size()) {
+			return elementArbitraries.size();
+		}
+
+		if (minSize > keySize) {
+			throw new IllegalArgumentException(
+				String.format(
+					"Failed to generate %d unique elements, the elements have only %d possible unique keys.",
+					minSize,
+					keySize
+				)
+			);
+		}
+		return (int)keySize;
+	}
+
+	private void addUnique(
+		RandomGenerator<?> generator,
+		Set<Object> keys,
+		List<Object> elements,
+		Random random
+	) {
+		for (int i = 0; i < MAX_TRIES; i++) {
+			Object element = generator.next(random).value();
+			if (keys.add(uniqueKeyExtractor.apply(element))) {
+				elements.add(element);
+				return;
+			}
+		}
+	}
+
+	private void checkMinSize(int generatedSize) {
+		if (generatedSize >= minSize) {
+			return;
+		}
+
+		throw new TooManyFilterMissesException(
+			String.format(
+				"Failed to generate %d unique elements after %d tries each, only %d unique elements are generated.",
+				minSize,
+				MAX_TRIES,
+				generatedSize
+			)
+		);
+	}
+
+	private long getEnumeratedKeySize() {
+		Long keySize = enumeratedKeySize;
+		if (keySize == null) {
+			keySize = enumerateKeySize();
+			enumeratedKeySize = keySize;
+		}
+		return keySize;
+	}
+
+	/**
+	 * Enumeration stops once there are as many keys as elements, the number of possible keys is then at least that.
+	 */
+	private long enumerateKeySize() {
+		Set<Object> keys = new HashSet<>();
+		for (Arbitrary<?> elementArbitrary : elementArbitraries) {
+			Optional<? extends ExhaustiveGenerator<?>> exhaustiveGenerator =
+				elementArbitrary.exhaustive(MAX_ENUMERATED_VALUES);
+			if (!exhaustiveGenerator.isPresent()) {
+				return NOT_ENUMERABLE;
+			}
+
+			for (Object element : exhaustiveGenerator.get()) {
+				Object key = uniqueKeyExtractor.apply(element);
+				// null is not counted, as it is not always generated
+				if (key != null) {
+					keys.add(key);
+				}
+			}
+
+			if (keys.size() >= elementArbitraries.size()) {
+				return keys.size();
+			}
+		}
+		return keys.size();
+	}
+}
@@ -42,6 +42,12 @@ public interface LazyArbitrary<T> {
 		if (mode == LazyThreadSafetyMode.NONE) {
 			return new UnSafeLazyArbitraryImpl<>(initializer, fixed);
 		}
+		if (mode == LazyThreadSafetyMode.SYNCHRONIZED) {
+			return new SynchronizedLazyArbitraryImpl<>(initializer, fixed);
+		}
+		if (mode == LazyThreadSafetyMode.PUBLICATION) {
+			return new PublicationLazyArbitraryImpl<>(initializer, fixed);
+		}
 		throw new IllegalArgumentException("Unsupported lazy thread safety mode: " + mode);
 	}
 
@@ -57,7 +63,24 @@ public interface LazyArbitrary<T> {
 		return lazy(initializer, fixed, LazyThreadSafetyMode.NONE);
 	}
 
+	/**
+	 * Similar to <a href="https://kotlinlang.org/api/latest/jvm/stdlib/kotlin/-lazy-thread-safety-mode/">
+	 * Kotlin LazyThreadSafetyMode</a>.
+	 */
 	enum LazyThreadSafetyMode {
-		NONE
+		/**
+		 * Not thread-safe, it is the fastest one.
+		 */
+		NONE,
+
+		/**
+		 * Initializes only once among threads by locking.
+		 */
+		SYNCHRONIZED,
+
+		/**
+		 * Initializer could be called concurrently, but the first returned value is used.
+		 */
+		PUBLICATION
 	}
 }
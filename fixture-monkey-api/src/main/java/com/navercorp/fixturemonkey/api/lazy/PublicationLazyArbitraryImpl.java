@@ -0,0 +1,70 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.lazy;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Initializer could be called by several threads concurrently, but only the first returned value is published.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class PublicationLazyArbitraryImpl<T> implements LazyArbitrary<T> {
+	private static final Object UNINITIALIZED_VALUE = new Object();
+
+	private final Supplier<T> initializer;
+	private final boolean fixed;
+
+	private final AtomicReference<Object> value = new AtomicReference<>(UNINITIALIZED_VALUE);
+
+	PublicationLazyArbitraryImpl(Supplier<T> initializer, boolean fixed) {
+		this.initializer = initializer;
+		this.fixed = fixed;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T getValue() {
+		Object result = value.get();
+		if (result != UNINITIALIZED_VALUE) {
+			return (T)result;
+		}
+
+		Object newValue = initializer.get();
+		if (value.compareAndSet(UNINITIALIZED_VALUE, newValue)) {
+			return (T)newValue;
+		}
+
+		result = value.get();
+		return result != UNINITIALIZED_VALUE ? (T)result : (T)newValue;
+	}
+
+	@Override
+	public boolean isInitialized() {
+		return value.get() != UNINITIALIZED_VALUE;
+	}
+
+	public void clear() {
+		if (!fixed) {
+			this.value.set(UNINITIALIZED_VALUE);
+		}
+	}
+}
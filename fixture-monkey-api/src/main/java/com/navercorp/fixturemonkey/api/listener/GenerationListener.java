@@ -0,0 +1,53 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import java.lang.reflect.Type;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Listens to the generation of fixtures, each event is reported with the root type of a fixture.
+ * It is called by concurrent samples, an implementation should be thread-safe.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public interface GenerationListener {
+	/**
+	 * Whether events are reported, a phase is not even timed if it is false.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	default void onPhase(Type rootType, GenerationPhase phase, long elapsedNanos) {
+	}
+
+	default void onNodeCount(Type rootType, int nodeCount) {
+	}
+
+	default void onResolveCache(Type rootType, boolean hit) {
+	}
+
+	default void onFilterMiss(Type rootType) {
+	}
+
+	default void onValidationRejected(Type rootType) {
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A thread-safe histogram of non-negative values, a value is counted in a bucket of its highest bit.
+ * A percentile is estimated as the upper bound of its bucket, so it is at most twice the exact one.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class Histogram {
+	private static final int BUCKET_SIZE = Long.SIZE;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_SIZE);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+	public void record(long value) {
+		long recorded = Math.max(value, 0L);
+		buckets.incrementAndGet(BUCKET_SIZE - Long.numberOfLeadingZeros(recorded) - (recorded == 0L ? 0 : 1));
+		count.increment();
+		sum.add(recorded);
+		max.accumulate(recorded);
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getSum() {
+		return sum.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public double getMean() {
+		long count = getCount();
+		return count == 0L ? 0.0d : (double)getSum() / count;
+	}
+
+	/**
+	 * @param percentile from 0 to 100
+	 * @return the upper bound of the bucket which the percentile is in, 0 if nothing is recorded
+	 */
+	public long getPercentile(double percentile) {
+		if (percentile < 0.0d || percentile > 100.0d) {
+			throw new IllegalArgumentException("percentile should be between 0 and 100. percentile: " + percentile);
+		}
+
+		long count = getCount();
+		if (count == 0L) {
+			return 0L;
+		}
+
+		long rank = Math.max((long)Math.ceil(count * percentile / 100.0d), 1L);
+		long accumulated = 0L;
+		for (int i = 0; i < BUCKET_SIZE; i++) {
+			accumulated += buckets.get(i);
+			if (accumulated >= rank) {
+				return Math.min(upperBound(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	private static long upperBound(int bucket) {
+		return bucket >= BUCKET_SIZE - 2 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+	}
+}
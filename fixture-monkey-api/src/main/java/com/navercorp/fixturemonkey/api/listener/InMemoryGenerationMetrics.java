@@ -0,0 +1,194 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Collects metrics of generation by root type in memory.
+ * It could be registered while running tests to find which fixture types are slow to generate.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class InMemoryGenerationMetrics implements GenerationListener {
+	private final Map<Type, TypeMetrics> metricsByType = new ConcurrentHashMap<>();
+
+	@Override
+	public void onPhase(Type rootType, GenerationPhase phase, long elapsedNanos) {
+		getOrCreate(rootType).getPhase(phase).record(elapsedNanos);
+	}
+
+	@Override
+	public void onNodeCount(Type rootType, int nodeCount) {
+		getOrCreate(rootType).nodeCounts.record(nodeCount);
+	}
+
+	@Override
+	public void onResolveCache(Type rootType, boolean hit) {
+		TypeMetrics metrics = getOrCreate(rootType);
+		if (hit) {
+			metrics.resolveCacheHits.increment();
+		} else {
+			metrics.resolveCacheMisses.increment();
+		}
+	}
+
+	@Override
+	public void onFilterMiss(Type rootType) {
+		getOrCreate(rootType).filterMisses.increment();
+	}
+
+	@Override
+	public void onValidationRejected(Type rootType) {
+		getOrCreate(rootType).validationRejections.increment();
+	}
+
+	@Nullable
+	public TypeMetrics getMetrics(Type rootType) {
+		return metricsByType.get(rootType);
+	}
+
+	public Map<Type, TypeMetrics> getMetrics() {
+		return Collections.unmodifiableMap(metricsByType);
+	}
+
+	/**
+	 * Returns the metrics in descending order of the total time spent.
+	 */
+	public List<TypeMetrics> getSlowestTypes(int limit) {
+		return metricsByType.values().stream()
+			.sorted(Comparator.comparingLong(TypeMetrics::getTotalNanos).reversed())
+			.limit(limit)
+			.collect(toList());
+	}
+
+	public void clear() {
+		metricsByType.clear();
+	}
+
+	public String report() {
+		StringBuilder builder = new StringBuilder();
+		for (TypeMetrics metrics : getSlowestTypes(Integer.MAX_VALUE)) {
+			builder.append(metrics).append("\n");
+		}
+		return builder.toString();
+	}
+
+	private TypeMetrics getOrCreate(Type rootType) {
+		return metricsByType.computeIfAbsent(rootType, TypeMetrics::new);
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public static final class TypeMetrics {
+		private final Type rootType;
+		private final Map<GenerationPhase, Histogram> phases;
+		private final Histogram nodeCounts = new Histogram();
+		private final LongAdder resolveCacheHits = new LongAdder();
+		private final LongAdder resolveCacheMisses = new LongAdder();
+		private final LongAdder filterMisses = new LongAdder();
+		private final LongAdder validationRejections = new LongAdder();
+
+		private TypeMetrics(Type rootType) {
+			this.rootType = rootType;
+			Map<GenerationPhase, Histogram> phases = new EnumMap<>(GenerationPhase.class);
+			for (GenerationPhase phase : GenerationPhase.values()) {
+				phases.put(phase, new Histogram());
+			}
+			this.phases = Collections.unmodifiableMap(phases);
+		}
+
+		public Type getRootType() {
+			return rootType;
+		}
+
+		public Histogram getPhase(GenerationPhase phase) {
+			return phases.get(phase);
+		}
+
+		public long getTotalNanos() {
+			long totalNanos = 0L;
+			for (Histogram histogram : phases.values()) {
+				totalNanos += histogram.getSum();
+			}
+			return totalNanos;
+		}
+
+		public Histogram getNodeCounts() {
+			return nodeCounts;
+		}
+
+		public long getResolveCacheHits() {
+			return resolveCacheHits.sum();
+		}
+
+		public long getResolveCacheMisses() {
+			return resolveCacheMisses.sum();
+		}
+
+		public double getResolveCacheHitRate() {
+			long hits = getResolveCacheHits();
+			long total = hits + getResolveCacheMisses();
+			return total == 0L ? 0.0d : (double)hits / total;
+		}
+
+		public long getFilterMisses() {
+			return filterMisses.sum();
+		}
+
+		public long getValidationRejections() {
+			return validationRejections.sum();
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder(rootType.getTypeName())
+				.append(": total=").append(TimeUnit.NANOSECONDS.toMillis(getTotalNanos())).append("ms");
+			for (Map.Entry<GenerationPhase, Histogram> phase : phases.entrySet()) {
+				Histogram histogram = phase.getValue();
+				if (histogram.getCount() == 0L) {
+					continue;
+				}
+				builder.append(", ").append(phase.getKey()).append("(count=").append(histogram.getCount())
+					.append(", p50=").append(histogram.getPercentile(50)).append("ns")
+					.append(", p99=").append(histogram.getPercentile(99)).append("ns")
+					.append(", max=").append(histogram.getMax()).append("ns)");
+			}
+			return builder
+				.append(", nodes(max)=").append(nodeCounts.getMax())
+				.append(", resolveCacheHitRate=").append(String.format("%.2f", getResolveCacheHitRate()))
+				.append(", filterMisses=").append(getFilterMisses())
+				.append(", validationRejections=").append(getValidationRejections())
+				.toString();
+		}
+	}
+}
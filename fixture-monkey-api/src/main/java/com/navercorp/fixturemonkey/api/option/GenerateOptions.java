@@ -50,6 +50,8 @@ import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -70,12 +72,14 @@ import com.navercorp.fixturemonkey.api.generator.OptionalArbitraryPropertyGenera
 import com.navercorp.fixturemonkey.api.generator.SingleValueArbitraryPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.StreamArbitraryPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.TupleLikeElementsArbitraryPropertyGenerator;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.property.TupleLikeElementsProperty;
+import com.navercorp.fixturemonkey.api.random.RandomGeneratorFactory;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.api.type.Types.UnidentifiableType;
 
@@ -103,6 +107,16 @@ public final class GenerateOptions {
 
 	@SuppressWarnings("rawtypes")
 	private final List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers;
+	private final boolean shrinking;
+	private final GenerationListener generationListener;
+	@Nullable
+	private final RandomGeneratorFactory randomGeneratorFactory;
+
+	private final MatcherOperatorIndex<ArbitraryPropertyGenerator> arbitraryPropertyGeneratorIndex;
+	private final MatcherOperatorIndex<PropertyNameResolver> propertyNameResolverIndex;
+	private final MatcherOperatorIndex<NullInjectGenerator> nullInjectGeneratorIndex;
+	private final MatcherOperatorIndex<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGeneratorIndex;
+	private final MatcherOperatorIndex<ArbitraryGenerator> arbitraryGeneratorIndex;
 
 	@SuppressWarnings("rawtypes")
 	public GenerateOptions(
@@ -117,7 +131,10 @@ public final class GenerateOptions {
 		ArbitraryContainerInfo defaultArbitraryContainerInfo,
 		List<MatcherOperator<ArbitraryGenerator>> arbitraryGenerators,
 		ArbitraryGenerator defaultArbitraryGenerator,
-		List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers
+		List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers,
+		boolean shrinking,
+		GenerationListener generationListener,
+		@Nullable RandomGeneratorFactory randomGeneratorFactory
 	) {
 		this.arbitraryPropertyGenerators = arbitraryPropertyGenerators;
 		this.defaultArbitraryPropertyGenerator = defaultArbitraryPropertyGenerator;
@@ -131,6 +148,18 @@ public final class GenerateOptions {
 		this.arbitraryGenerators = arbitraryGenerators;
 		this.defaultArbitraryGenerator = defaultArbitraryGenerator;
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.shrinking = shrinking;
+		this.generationListener = generationListener;
+		this.randomGeneratorFactory = randomGeneratorFactory;
+		this.arbitraryPropertyGeneratorIndex =
+			new MatcherOperatorIndex<>(arbitraryPropertyGenerators, defaultArbitraryPropertyGenerator);
+		this.propertyNameResolverIndex = new MatcherOperatorIndex<>(propertyNameResolvers, defaultPropertyNameResolver);
+		this.nullInjectGeneratorIndex = new MatcherOperatorIndex<>(nullInjectGenerators, defaultNullInjectGenerator);
+		this.arbitraryContainerInfoGeneratorIndex = new MatcherOperatorIndex<>(
+			arbitraryContainerInfoGenerators,
+			context -> this.getDefaultArbitraryContainerInfo()
+		);
+		this.arbitraryGeneratorIndex = new MatcherOperatorIndex<>(arbitraryGenerators, defaultArbitraryGenerator);
 	}
 
 	public static GenerateOptionsBuilder builder() {
@@ -142,11 +171,7 @@ public final class GenerateOptions {
 	}
 
 	public ArbitraryPropertyGenerator getArbitraryPropertyGenerator(Property property) {
-		return this.getArbitraryPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryPropertyGenerator());
+		return this.arbitraryPropertyGeneratorIndex.getOperator(property);
 	}
 
 	public ArbitraryPropertyGenerator getDefaultArbitraryPropertyGenerator() {
@@ -158,11 +183,7 @@ public final class GenerateOptions {
 	}
 
 	public PropertyNameResolver getPropertyNameResolver(Property property) {
-		return this.getPropertyNameResolvers().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultPropertyNameResolver());
+		return this.propertyNameResolverIndex.getOperator(property);
 	}
 
 	public PropertyNameResolver getDefaultPropertyNameResolver() {
@@ -174,11 +195,7 @@ public final class GenerateOptions {
 	}
 
 	public NullInjectGenerator getNullInjectGenerator(Property property) {
-		return this.getNullInjectGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultNullInjectGenerator());
+		return this.nullInjectGeneratorIndex.getOperator(property);
 	}
 
 	public NullInjectGenerator getDefaultNullInjectGenerator() {
@@ -190,11 +207,7 @@ public final class GenerateOptions {
 	}
 
 	public ArbitraryContainerInfoGenerator getArbitraryContainerInfoGenerator(Property property) {
-		return this.getArbitraryContainerInfoGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(context -> this.getDefaultArbitraryContainerInfo());
+		return this.arbitraryContainerInfoGeneratorIndex.getOperator(property);
 	}
 
 	public int getDefaultArbitraryContainerSize() {
@@ -210,11 +223,7 @@ public final class GenerateOptions {
 	}
 
 	public ArbitraryGenerator getArbitraryGenerator(Property property) {
-		return this.getArbitraryGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryGenerator());
+		return this.arbitraryGeneratorIndex.getOperator(property);
 	}
 
 	public ArbitraryGenerator getDefaultArbitraryGenerator() {
@@ -226,6 +235,19 @@ public final class GenerateOptions {
 		return arbitraryCustomizers;
 	}
 
+	public boolean isShrinking() {
+		return shrinking;
+	}
+
+	public GenerationListener getGenerationListener() {
+		return generationListener;
+	}
+
+	@Nullable
+	public RandomGeneratorFactory getRandomGeneratorFactory() {
+		return randomGeneratorFactory;
+	}
+
 	public GenerateOptionsBuilder toBuilder() {
 		return builder()
 			.arbitraryPropertyGenerators(new ArrayList<>(this.arbitraryPropertyGenerators))
@@ -238,7 +260,10 @@ public final class GenerateOptions {
 			.defaultArbitraryContainerMaxSize(this.defaultArbitraryContainerSize)
 			.defaultArbitraryContainerInfo(this.defaultArbitraryContainerInfo)
 			.arbitraryGenerators(new ArrayList<>(this.arbitraryGenerators))
-			.defaultArbitraryGenerator(this.defaultArbitraryGenerator);
+			.defaultArbitraryGenerator(this.defaultArbitraryGenerator)
+			.shrinking(this.shrinking)
+			.generationListener(this.generationListener)
+			.randomGeneratorFactory(this.randomGeneratorFactory);
 	}
 
 	// TODO: equals and hashCode and toString
@@ -19,7 +19,9 @@
 package com.navercorp.fixturemonkey.api.option;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ServiceLoader;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
@@ -42,10 +44,13 @@ import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
+import com.navercorp.fixturemonkey.api.listener.NoneGenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.plugin.Plugin;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.random.RandomGeneratorFactory;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class GenerateOptionsBuilder {
@@ -64,6 +69,10 @@ public final class GenerateOptionsBuilder {
 
 	@SuppressWarnings("rawtypes")
 	private List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers = new ArrayList<>();
+	private boolean shrinking = true;
+	private GenerationListener generationListener = NoneGenerationListener.INSTANCE;
+	@Nullable
+	private RandomGeneratorFactory randomGeneratorFactory = null;
 	private final JavaDefaultArbitraryGeneratorBuilder javaDefaultArbitraryGeneratorBuilder =
 		DefaultArbitraryGenerator.javaBuilder();
 
@@ -378,6 +387,25 @@ public final class GenerateOptionsBuilder {
 		);
 	}
 
+	public GenerateOptionsBuilder shrinking(boolean shrinking) {
+		this.shrinking = shrinking;
+		return this;
+	}
+
+	public GenerateOptionsBuilder generationListener(GenerationListener generationListener) {
+		this.generationListener = generationListener;
+		return this;
+	}
+
+	/**
+	 * Sets the factory of generators which generate a fixture.
+	 * If not set, the first one registered for {@link ServiceLoader} is used, jqwik's random otherwise.
+	 */
+	public GenerateOptionsBuilder randomGeneratorFactory(@Nullable RandomGeneratorFactory randomGeneratorFactory) {
+		this.randomGeneratorFactory = randomGeneratorFactory;
+		return this;
+	}
+
 	public GenerateOptions build() {
 		ArbitraryPropertyGenerator defaultArbitraryPropertyGenerator = defaultIfNull(
 			this.defaultArbitraryPropertyGenerator,
@@ -400,6 +428,9 @@ public final class GenerateOptionsBuilder {
 			);
 		ArbitraryGenerator defaultArbitraryGenerator =
 			defaultIfNull(this.defaultArbitraryGenerator, this.javaDefaultArbitraryGeneratorBuilder::build);
+		RandomGeneratorFactory randomGeneratorFactory = this.randomGeneratorFactory != null
+			? this.randomGeneratorFactory
+			: ServiceLoadedRandomGeneratorFactory.INSTANCE;
 
 		return new GenerateOptions(
 			this.arbitraryPropertyGenerators,
@@ -413,7 +444,10 @@ public final class GenerateOptionsBuilder {
 			defaultArbitraryContainerInfo,
 			this.arbitraryGenerators,
 			defaultArbitraryGenerator,
-			this.arbitraryCustomizers
+			this.arbitraryCustomizers,
+			this.shrinking,
+			this.generationListener,
+			randomGeneratorFactory
 		);
 	}
 
@@ -427,4 +461,16 @@ public final class GenerateOptionsBuilder {
 		result.addAll(list);
 		return result;
 	}
+
+	private static final class ServiceLoadedRandomGeneratorFactory {
+		// loaded once, it is not changed afterwards
+		@Nullable
+		private static final RandomGeneratorFactory INSTANCE = load();
+
+		@Nullable
+		private static RandomGeneratorFactory load() {
+			Iterator<RandomGeneratorFactory> factories = ServiceLoader.load(RandomGeneratorFactory.class).iterator();
+			return factories.hasNext() ? factories.next() : null;
+		}
+	}
 }
@@ -0,0 +1,115 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.option;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentWeakIdentityCache;
+import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Finds the first matching operator of the given {@link MatcherOperator}s.
+ * {@link ExactTypeMatcher}s are hashed by its type, the others are evaluated in order
+ * only if they are ahead of the first {@link ExactTypeMatcher} of the property type.
+ * The result is memoized per {@link Property} resolved by {@link PropertyCache}.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+final class MatcherOperatorIndex<T> {
+	private static final int OPERATORS_CACHE_SIZE = 2048;
+
+	private final List<MatcherOperator<T>> matcherOperators;
+	private final Map<Class<?>, Integer> firstExactTypeIndexesByType;
+	private final int[] otherIndexes;
+	private final T defaultOperator;
+	private final ConcurrentWeakIdentityCache<Property, T> operatorsByProperty =
+		new ConcurrentWeakIdentityCache<>(OPERATORS_CACHE_SIZE);
+
+	MatcherOperatorIndex(List<MatcherOperator<T>> matcherOperators, T defaultOperator) {
+		this.matcherOperators = new ArrayList<>(matcherOperators);
+		this.defaultOperator = defaultOperator;
+		this.firstExactTypeIndexesByType = new HashMap<>();
+		List<Integer> otherIndexes = new ArrayList<>();
+		for (int index = 0; index < this.matcherOperators.size(); index++) {
+			MatcherOperator<T> matcherOperator = this.matcherOperators.get(index);
+			if (matcherOperator.getMatcher() instanceof ExactTypeMatcher) {
+				Class<?> type = ((ExactTypeMatcher)matcherOperator.getMatcher()).getType();
+				this.firstExactTypeIndexesByType.putIfAbsent(type, index);
+			} else {
+				otherIndexes.add(index);
+			}
+		}
+		this.otherIndexes = otherIndexes.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	T getOperator(Property property) {
+		if (!PropertyCache.isCacheable(property) || property.getAnnotatedType() instanceof LazyAnnotatedType) {
+			return find(property);
+		}
+		return operatorsByProperty.computeIfAbsent(property, this::find);
+	}
+
+	private T find(Property property) {
+		Class<?> actualType;
+		try {
+			actualType = Types.getActualType(property.getType());
+		} catch (UnsupportedOperationException ex) {
+			return findInOrder(property);
+		}
+
+		int exactTypeIndex = firstExactTypeIndexesByType.getOrDefault(actualType, Integer.MAX_VALUE);
+		for (int otherIndex : otherIndexes) {
+			if (otherIndex > exactTypeIndex) {
+				break;
+			}
+
+			MatcherOperator<T> matcherOperator = matcherOperators.get(otherIndex);
+			if (matcherOperator.match(property)) {
+				return matcherOperator.getOperator();
+			}
+		}
+
+		if (exactTypeIndex != Integer.MAX_VALUE) {
+			return matcherOperators.get(exactTypeIndex).getOperator();
+		}
+		return defaultOperator;
+	}
+
+	/**
+	 * Matches all of the operators in order, used when the actual type of property could not be resolved.
+	 */
+	private T findInOrder(Property property) {
+		for (MatcherOperator<T> matcherOperator : matcherOperators) {
+			if (matcherOperator.match(property)) {
+				return matcherOperator.getOperator();
+			}
+		}
+		return defaultOperator;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.postcondition;
+
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A postcondition that the length of a character sequence is in a closed range.
+ * Unlike an opaque predicate, a string property is generated within the length instead of being filtered.
+ *
+ * @param <T> the type of the character sequence
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class LengthPostCondition<T extends CharSequence> implements Predicate<T> {
+	private final int minLength;
+	private final int maxLength;
+
+	private LengthPostCondition(int minLength, int maxLength) {
+		if (minLength < 0 || minLength > maxLength) {
+			throw new IllegalArgumentException(
+				"Wrong length range. minLength: " + minLength + ", maxLength: " + maxLength
+			);
+		}
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+	}
+
+	public static <T extends CharSequence> LengthPostCondition<T> ofLength(int minLength, int maxLength) {
+		return new LengthPostCondition<>(minLength, maxLength);
+	}
+
+	public static <T extends CharSequence> LengthPostCondition<T> ofLength(int length) {
+		return new LengthPostCondition<>(length, length);
+	}
+
+	public int getMinLength() {
+		return minLength;
+	}
+
+	public int getMaxLength() {
+		return maxLength;
+	}
+
+	@Override
+	public boolean test(T value) {
+		return value != null && minLength <= value.length() && value.length() <= maxLength;
+	}
+
+	@Override
+	public String toString() {
+		return "LengthPostCondition{"
+			+ "minLength=" + minLength
+			+ ", maxLength=" + maxLength + '}';
+	}
+}
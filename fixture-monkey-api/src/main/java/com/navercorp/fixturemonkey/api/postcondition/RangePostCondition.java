@@ -0,0 +1,93 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.postcondition;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A postcondition that a number is in a closed range.
+ * Unlike an opaque predicate, an integral property is generated within the range instead of being filtered.
+ *
+ * @param <T> the type of the number
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class RangePostCondition<T extends Number> implements Predicate<T> {
+	private final BigDecimal min;
+	private final BigDecimal max;
+
+	private RangePostCondition(BigDecimal min, BigDecimal max) {
+		if (min.compareTo(max) > 0) {
+			throw new IllegalArgumentException("min should not be greater than max. min: " + min + ", max: " + max);
+		}
+		this.min = min;
+		this.max = max;
+	}
+
+	public static <T extends Number> RangePostCondition<T> between(long min, long max) {
+		return new RangePostCondition<>(BigDecimal.valueOf(min), BigDecimal.valueOf(max));
+	}
+
+	public static <T extends Number> RangePostCondition<T> between(BigDecimal min, BigDecimal max) {
+		return new RangePostCondition<>(min, max);
+	}
+
+	public BigDecimal getMin() {
+		return min;
+	}
+
+	public BigDecimal getMax() {
+		return max;
+	}
+
+	@Override
+	public boolean test(T value) {
+		if (value == null) {
+			return false;
+		}
+
+		BigDecimal decimal = toBigDecimal(value);
+		return min.compareTo(decimal) <= 0 && decimal.compareTo(max) <= 0;
+	}
+
+	private static BigDecimal toBigDecimal(Number value) {
+		if (value instanceof BigDecimal) {
+			return (BigDecimal)value;
+		}
+		if (value instanceof BigInteger) {
+			return new BigDecimal((BigInteger)value);
+		}
+		if (value instanceof Double || value instanceof Float) {
+			return BigDecimal.valueOf(value.doubleValue());
+		}
+		return BigDecimal.valueOf(value.longValue());
+	}
+
+	@Override
+	public String toString() {
+		return "RangePostCondition{"
+			+ "min=" + min
+			+ ", max=" + max + '}';
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Creates getters, setters and constructors by {@link MethodHandle} instead of reflection.
+ * They are cached per member, it is resolved only once.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class AccessorFactory {
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private static final Map<Member, Function<Object, Object>> GETTERS = new ConcurrentHashMap<>();
+	private static final Map<Member, BiConsumer<Object, Object>> SETTERS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, Supplier<Object>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+	private AccessorFactory() {
+	}
+
+	public static Function<Object, Object> getter(Field field) {
+		return GETTERS.computeIfAbsent(field, it -> {
+			setAccessible(field);
+			try {
+				return toGetter(instanceOf(LOOKUP.unreflectGetter(field), field));
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Can not access field. field: " + field, ex);
+			}
+		});
+	}
+
+	public static Function<Object, Object> getter(Method method) {
+		return GETTERS.computeIfAbsent(method, it -> {
+			setAccessible(method);
+			try {
+				return toGetter(instanceOf(LOOKUP.unreflect(method), method));
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Can not access method. method: " + method, ex);
+			}
+		});
+	}
+
+	public static BiConsumer<Object, Object> setter(Field field) {
+		return SETTERS.computeIfAbsent(field, it -> {
+			setAccessible(field);
+			try {
+				return toSetter(instanceOf(LOOKUP.unreflectSetter(field), field));
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Can not access field. field: " + field, ex);
+			}
+		});
+	}
+
+	public static BiConsumer<Object, Object> setter(Method method) {
+		return SETTERS.computeIfAbsent(method, it -> {
+			setAccessible(method);
+			try {
+				return toSetter(instanceOf(LOOKUP.unreflect(method), method));
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Can not access method. method: " + method, ex);
+			}
+		});
+	}
+
+	/**
+	 * Returns a constructor without parameters of given type.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Supplier<T> constructor(Class<T> type) {
+		return (Supplier<T>)CONSTRUCTORS.computeIfAbsent(type, it -> {
+			try {
+				Constructor<?> constructor = type.getDeclaredConstructor();
+				setAccessible(constructor);
+				return toConstructor(LOOKUP.unreflectConstructor(constructor));
+			} catch (NoSuchMethodException ex) {
+				throw new IllegalArgumentException("No default constructor. type: " + type.getName(), ex);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Can not access default constructor. type: " + type.getName(), ex);
+			}
+		});
+	}
+
+	/**
+	 * Returns a constructor without parameters of given type, it is resolved once when it is returned.
+	 * If given type has no accessible one, the returned constructor throws when it is called, not when it is returned.
+	 */
+	public static <T> Supplier<T> constructorFailingOnCall(Class<T> type) {
+		try {
+			return constructor(type);
+		} catch (IllegalArgumentException ex) {
+			return () -> {
+				throw ex;
+			};
+		}
+	}
+
+	/**
+	 * Static members ignore the given instance.
+	 */
+	private static MethodHandle instanceOf(MethodHandle methodHandle, Member member) {
+		if (Modifier.isStatic(member.getModifiers())) {
+			return MethodHandles.dropArguments(methodHandle, 0, Object.class);
+		}
+		return methodHandle;
+	}
+
+	private static Function<Object, Object> toGetter(MethodHandle methodHandle) {
+		MethodHandle getter = methodHandle.asType(GETTER_TYPE);
+		return obj -> {
+			try {
+				return (Object)getter.invokeExact(obj);
+			} catch (Throwable throwable) {
+				throw rethrow(throwable);
+			}
+		};
+	}
+
+	private static BiConsumer<Object, Object> toSetter(MethodHandle methodHandle) {
+		MethodHandle setter = methodHandle.asType(SETTER_TYPE);
+		return (obj, value) -> {
+			try {
+				setter.invokeExact(obj, value);
+			} catch (Throwable throwable) {
+				throw rethrow(throwable);
+			}
+		};
+	}
+
+	private static Supplier<Object> toConstructor(MethodHandle methodHandle) {
+		MethodHandle constructor = methodHandle.asType(CONSTRUCTOR_TYPE);
+		return () -> {
+			try {
+				return (Object)constructor.invokeExact();
+			} catch (Throwable throwable) {
+				throw rethrow(throwable);
+			}
+		};
+	}
+
+	private static void setAccessible(AccessibleObject accessibleObject) {
+		try {
+			accessibleObject.setAccessible(true);
+		} catch (RuntimeException ignored) {
+			// could not open a member of a module, it is accessible only if it is public
+		}
+	}
+
+	private static RuntimeException rethrow(Throwable throwable) {
+		if (throwable instanceof RuntimeException) {
+			return (RuntimeException)throwable;
+		}
+		if (throwable instanceof Error) {
+			throw (Error)throwable;
+		}
+		return new IllegalArgumentException(throwable.getMessage(), throwable);
+	}
+}
@@ -98,9 +98,8 @@ public final class FieldProperty implements Property {
 	@Override
 	public Object getValue(Object obj) {
 		try {
-			this.field.setAccessible(true);
-			return this.field.get(obj);
-		} catch (IllegalAccessException ex) {
+			return AccessorFactory.getter(this.field).apply(obj);
+		} catch (RuntimeException ex) {
 			throw new IllegalArgumentException(
 				"Can not extract value. obj: " + obj.toString() + ", fieldName: " + this.field.getName(),
 				ex
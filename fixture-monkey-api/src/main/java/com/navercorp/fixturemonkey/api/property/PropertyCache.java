@@ -21,17 +21,26 @@ package com.navercorp.fixturemonkey.api.property;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -39,17 +48,99 @@ import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentWeakIdentityCache;
+import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class PropertyCache {
 	private static final Logger LOGGER = LoggerFactory.getLogger(PropertyCache.class);
 
-	private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS =
-		new ConcurrentHashMap<>();
-	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentHashMap<>();
+	private static final int CACHE_SIZE = 2048;
+
+	// bounded, since every test could resolve its own types, the oldest ones are evicted
+	private static final ConcurrentWeakIdentityCache<Class<?>, Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS =
+		new ConcurrentWeakIdentityCache<>(CACHE_SIZE);
+	private static final ConcurrentWeakIdentityCache<Class<?>, Map<String, Field>> FIELDS =
+		new ConcurrentWeakIdentityCache<>(CACHE_SIZE);
+	private static final ConcurrentWeakIdentityCache<Class<?>, ResolvedProperties> RESOLVED_PROPERTIES_BY_CLASS =
+		new ConcurrentWeakIdentityCache<>(CACHE_SIZE);
+	private static final ConcurrentLruCache<List<Object>, ResolvedProperties> RESOLVED_PROPERTIES_BY_GENERICS =
+		new ConcurrentLruCache<>(CACHE_SIZE);
 
 	public static List<Property> getProperties(AnnotatedType annotatedType) {
+		return getResolvedProperties(annotatedType).properties;
+	}
+
+	public static Optional<Property> getProperty(AnnotatedType annotatedType, String name) {
+		return Optional.ofNullable(getResolvedProperties(annotatedType).propertiesByName.get(name));
+	}
+
+	/**
+	 * Returns whether the property is a kind resolved by {@link PropertyCache}, which is reused among traversals.
+	 * The other kinds such as {@link ElementProperty} and {@link RootProperty} are made on each traversal,
+	 * so they are not worth memoizing by identity.
+	 */
+	public static boolean isCacheable(Property property) {
+		return property instanceof FieldProperty
+			|| property instanceof PropertyDescriptorProperty
+			|| property instanceof CompositeProperty;
+	}
+
+	public static Map<String, Field> getFields(Class<?> clazz) {
+		return FIELDS.computeIfAbsent(clazz, type -> {
+			Map<String, Field> result = new ConcurrentHashMap<>();
+			List<Field> fields = ReflectionUtils.findFields(
+				clazz, field -> true, HierarchyTraversalMode.TOP_DOWN);
+			for (Field field : fields) {
+				field.setAccessible(true);
+				result.put(field.getName(), field);
+			}
+			return result;
+		});
+	}
+
+	public static Map<String, PropertyDescriptor> getPropertyDescriptors(Class<?> clazz) {
+		return PROPERTY_DESCRIPTORS.computeIfAbsent(clazz, type -> {
+			Map<String, PropertyDescriptor> result = new ConcurrentHashMap<>();
+			try {
+				PropertyDescriptor[] descriptors = Introspector.getBeanInfo(type)
+					.getPropertyDescriptors();
+				for (PropertyDescriptor descriptor : descriptors) {
+					if (descriptor.getName().equals("class")) {
+						continue;
+					}
+					result.put(descriptor.getName(), descriptor);
+				}
+			} catch (IntrospectionException ex) {
+				LOGGER.warn("Introspect bean property is failed. type: " + clazz, ex);
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * Properties of a type which is not parameterized depend on its class only.
+	 * Otherwise, they have the type arguments as they are, type annotations of the arguments are a part of the key.
+	 */
+	private static ResolvedProperties getResolvedProperties(AnnotatedType annotatedType) {
+		if (!(annotatedType instanceof AnnotatedParameterizedType)) {
+			return RESOLVED_PROPERTIES_BY_CLASS.computeIfAbsent(
+				Types.getActualType(annotatedType.getType()),
+				type -> resolveProperties(annotatedType)
+			);
+		}
+
+		List<Object> genericsKey = toGenericsKey(annotatedType);
+		if (genericsKey == null) {
+			return resolveProperties(annotatedType);
+		}
+
+		return RESOLVED_PROPERTIES_BY_GENERICS.computeIfAbsent(genericsKey, key -> resolveProperties(annotatedType));
+	}
+
+	private static ResolvedProperties resolveProperties(AnnotatedType annotatedType) {
 		Map<String, List<Property>> propertiesMap = new HashMap<>();
 
 		Class<?> actualType = Types.getActualType(annotatedType.getType());
@@ -80,53 +171,77 @@ public final class PropertyCache {
 			);
 		}
 
-		List<Property> result = new ArrayList<>();
+		Map<String, Property> propertiesByName = new LinkedHashMap<>();
 		for (List<Property> properties : propertiesMap.values()) {
-			if (properties.size() == 1) {
-				result.add(properties.get(0));
-			} else {
-				result.add(new CompositeProperty(properties.get(0), properties.get(1)));
-			}
+			Property property = properties.size() == 1
+				? properties.get(0)
+				: new CompositeProperty(properties.get(0), properties.get(1));
+			propertiesByName.putIfAbsent(property.getName(), property);
 		}
 
-		return Collections.unmodifiableList(result);
+		return new ResolvedProperties(
+			Collections.unmodifiableList(new ArrayList<>(propertiesByName.values())),
+			propertiesByName
+		);
 	}
 
-	public static Optional<Property> getProperty(AnnotatedType annotatedType, String name) {
-		return getProperties(annotatedType).stream()
-			.filter(it -> it.getName().equals(name))
-			.findFirst();
-	}
+	/**
+	 * @return the key which is equal for the types resolving the same properties, null if it could not be identified
+	 */
+	@Nullable
+	private static List<Object> toGenericsKey(AnnotatedType annotatedType) {
+		if (annotatedType instanceof LazyAnnotatedType) {
+			return null;
+		}
 
-	public static Map<String, Field> getFields(Class<?> clazz) {
-		return FIELDS.computeIfAbsent(clazz, type -> {
-			Map<String, Field> result = new ConcurrentHashMap<>();
-			List<Field> fields = ReflectionUtils.findFields(
-				clazz, field -> true, HierarchyTraversalMode.TOP_DOWN);
-			for (Field field : fields) {
-				field.setAccessible(true);
-				result.put(field.getName(), field);
+		List<Object> key = new ArrayList<>();
+		key.add(Arrays.asList(annotatedType.getAnnotations()));
+		Type type = annotatedType.getType();
+		if (annotatedType instanceof AnnotatedParameterizedType) {
+			if (!(type instanceof ParameterizedType)) {
+				return null;
 			}
-			return result;
-		});
-	}
 
-	public static Map<String, PropertyDescriptor> getPropertyDescriptors(Class<?> clazz) {
-		return PROPERTY_DESCRIPTORS.computeIfAbsent(clazz, type -> {
-			Map<String, PropertyDescriptor> result = new ConcurrentHashMap<>();
-			try {
-				PropertyDescriptor[] descriptors = Introspector.getBeanInfo(type)
-					.getPropertyDescriptors();
-				for (PropertyDescriptor descriptor : descriptors) {
-					if (descriptor.getName().equals("class")) {
-						continue;
-					}
-					result.put(descriptor.getName(), descriptor);
+			key.add(ParameterizedType.class);
+			key.add(((ParameterizedType)type).getRawType());
+			for (AnnotatedType genericsType : ((AnnotatedParameterizedType)annotatedType)
+				.getAnnotatedActualTypeArguments()) {
+				List<Object> genericsKey = toGenericsKey(genericsType);
+				if (genericsKey == null) {
+					return null;
 				}
-			} catch (IntrospectionException ex) {
-				LOGGER.warn("Introspect bean property is failed. type: " + clazz, ex);
+				key.add(genericsKey);
 			}
-			return result;
-		});
+			return key;
+		}
+
+		if (annotatedType instanceof AnnotatedArrayType) {
+			List<Object> componentKey = toGenericsKey(
+				((AnnotatedArrayType)annotatedType).getAnnotatedGenericComponentType()
+			);
+			if (componentKey == null) {
+				return null;
+			}
+
+			key.add(AnnotatedArrayType.class);
+			key.add(componentKey);
+			return key;
+		}
+
+		if (type instanceof Class || type instanceof TypeVariable) {
+			key.add(type);
+			return key;
+		}
+		return null;
+	}
+
+	private static final class ResolvedProperties {
+		private final List<Property> properties;
+		private final Map<String, Property> propertiesByName;
+
+		private ResolvedProperties(List<Property> properties, Map<String, Property> propertiesByName) {
+			this.properties = properties;
+			this.propertiesByName = propertiesByName;
+		}
 	}
 }
@@ -23,7 +23,6 @@ import static java.util.stream.Collectors.toMap;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
@@ -100,8 +99,8 @@ public final class PropertyDescriptorProperty implements Property {
 	@Override
 	public Object getValue(Object obj) {
 		try {
-			return this.propertyDescriptor.getReadMethod().invoke(obj);
-		} catch (InvocationTargetException | IllegalAccessException ex) {
+			return AccessorFactory.getter(this.propertyDescriptor.getReadMethod()).apply(obj);
+		} catch (RuntimeException ex) {
 			throw new IllegalArgumentException(
 				"Can not invoke value. obj: " + obj.toString() + ", propertyName: " + this.propertyDescriptor.getName(),
 				ex
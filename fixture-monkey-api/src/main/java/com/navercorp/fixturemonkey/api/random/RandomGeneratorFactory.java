@@ -0,0 +1,37 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Creates a {@link SplittableRandomGenerator} which generates a fixture.
+ * It is configured by {@code LabMonkeyBuilder#randomGeneratorFactory},
+ * or loaded by {@link java.util.ServiceLoader} from {@code META-INF/services} if not configured.
+ * A generator is seeded by jqwik's random.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface RandomGeneratorFactory {
+	RandomGeneratorFactory SPLIT_MIX_64 = SplitMix64Random::new;
+	RandomGeneratorFactory XOROSHIRO_128_PLUS_PLUS = Xoroshiro128PlusPlusRandom::new;
+
+	SplittableRandomGenerator create(long seed);
+}
@@ -22,9 +22,12 @@ import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import net.jqwik.api.Arbitrary;
 import net.jqwik.api.JqwikException;
 import net.jqwik.engine.SourceOfRandomness;
 
@@ -32,6 +35,8 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * Reference jqwik SourceOfRandomness
+ * <p>
+ * Within {@link #withCurrent(Random, Supplier)}, {@link #current()} is the given random instead of jqwik's.
  */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 @SuppressFBWarnings("DMI_RANDOM_USED_ONLY_ONCE")
@@ -39,6 +44,8 @@ public class Randoms {
 	private static final boolean USE_JQWIK_ENGINE;
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 	private static final ThreadLocal<Random> CURRENT = ThreadLocal.withInitial(Randoms::newRandom);
+	private static final ThreadLocal<Random> SCOPED = new ThreadLocal<>();
+	private static final int SAMPLE_GEN_SIZE = 1000;
 
 	static {
 		boolean useJqwikEngine;
@@ -87,6 +94,11 @@ public class Randoms {
 	}
 
 	public static Random current() {
+		Random scoped = SCOPED.get();
+		if (scoped != null) {
+			return scoped;
+		}
+
 		return USE_JQWIK_ENGINE
 			? SourceOfRandomness.current()
 			: CURRENT.get();
@@ -96,6 +108,47 @@ public class Randoms {
 		return current().nextInt(bound);
 	}
 
+	/**
+	 * Runs the supplier with the given random as {@link #current()} of the current thread.
+	 * Container sizes and nested samples then draw from the same random as the values.
+	 *
+	 * @param random   the random to draw from
+	 * @param supplier the supplier to run
+	 * @param <T>      the type of the result
+	 * @return the result of the supplier
+	 */
+	public static <T> T withCurrent(Random random, Supplier<T> supplier) {
+		Random previous = SCOPED.get();
+		SCOPED.set(random);
+		try {
+			return supplier.get();
+		} finally {
+			if (previous == null) {
+				SCOPED.remove();
+			} else {
+				SCOPED.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Samples the arbitrary from {@link #current()} within {@link #withCurrent(Random, Supplier)},
+	 * or by {@link Arbitrary#sample()} otherwise.
+	 *
+	 * @param arbitrary the arbitrary to sample
+	 * @param <T>       the type of the sample
+	 * @return the sample
+	 */
+	@Nullable
+	public static <T> T sample(Arbitrary<T> arbitrary) {
+		Random scoped = SCOPED.get();
+		if (scoped == null) {
+			return arbitrary.sample();
+		}
+
+		return arbitrary.generator(SAMPLE_GEN_SIZE).next(scoped).value();
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
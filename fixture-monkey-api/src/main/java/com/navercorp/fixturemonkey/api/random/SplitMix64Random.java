@@ -0,0 +1,63 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * SplitMix64, the generator of {@link java.util.SplittableRandom} with a fixed gamma.
+ *
+ * See for details: https://prng.di.unimi.it/splitmix64.c
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class SplitMix64Random extends SplittableRandomGenerator {
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private long state;
+
+	public SplitMix64Random(long seed) {
+		this.state = seed;
+	}
+
+	@Override
+	public long nextLong() {
+		state += GOLDEN_GAMMA;
+		return mix(state);
+	}
+
+	@Override
+	public SplitMix64Random split() {
+		return new SplitMix64Random(mix(nextLong()));
+	}
+
+	/**
+	 * Advances 2^32 values.
+	 */
+	@Override
+	public void jump() {
+		state += GOLDEN_GAMMA << 32;
+	}
+
+	private static long mix(long value) {
+		long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+		return mixed ^ (mixed >>> 31);
+	}
+}
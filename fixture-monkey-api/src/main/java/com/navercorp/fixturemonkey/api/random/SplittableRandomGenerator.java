@@ -0,0 +1,109 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.Random;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A {@link Random} generating every value from {@link #nextLong()}, not thread safe.
+ * It could be split into an independent generator or jumped ahead for deterministic per-thread streams.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public abstract class SplittableRandomGenerator extends Random {
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+	private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+	protected SplittableRandomGenerator() {
+		super(0L);
+	}
+
+	@Override
+	public abstract long nextLong();
+
+	/**
+	 * Returns a new generator which is statistically independent of this one, this one is advanced.
+	 */
+	public abstract SplittableRandomGenerator split();
+
+	/**
+	 * Advances this generator by a large fixed number of values, as if they were generated.
+	 */
+	public abstract void jump();
+
+	@Override
+	protected final int next(int bits) {
+		return (int)(nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return (int)(nextLong() >>> 32);
+	}
+
+	/**
+	 * Lemire's nearly divisionless method, it rejects only when the multiplied low bits are less than the bound.
+	 */
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+
+		long multiplied = (nextLong() >>> 32) * bound;
+		long low = multiplied & 0xFFFFFFFFL;
+		if (low < bound) {
+			long threshold = (0x100000000L - bound) % bound;
+			while (low < threshold) {
+				multiplied = (nextLong() >>> 32) * bound;
+				low = multiplied & 0xFFFFFFFFL;
+			}
+		}
+		return (int)(multiplied >>> 32);
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextLong() >>> 40) * FLOAT_UNIT;
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	@Override
+	public void nextBytes(byte[] bytes) {
+		int index = 0;
+		while (index < bytes.length) {
+			long value = nextLong();
+			for (int i = 0; i < Long.BYTES && index < bytes.length; i++) {
+				bytes[index++] = (byte)value;
+				value >>>= Byte.SIZE;
+			}
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * xoroshiro128++, its state is seeded by {@link SplitMix64Random}.
+ *
+ * See for details: https://prng.di.unimi.it/xoroshiro128plusplus.c
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class Xoroshiro128PlusPlusRandom extends SplittableRandomGenerator {
+	private static final long[] JUMP = {0x2BD7A6A6E99C2DDCL, 0x0992CCAF6A6FCA05L};
+
+	private long state0;
+	private long state1;
+
+	public Xoroshiro128PlusPlusRandom(long seed) {
+		SplitMix64Random seeder = new SplitMix64Random(seed);
+		this.state0 = seeder.nextLong();
+		this.state1 = seeder.nextLong();
+		if ((state0 | state1) == 0L) {
+			this.state1 = 1L;
+		}
+	}
+
+	@Override
+	public long nextLong() {
+		long s0 = state0;
+		long s1 = state1;
+		long result = Long.rotateLeft(s0 + s1, 17) + s0;
+
+		s1 ^= s0;
+		state0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+		state1 = Long.rotateLeft(s1, 28);
+		return result;
+	}
+
+	@Override
+	public Xoroshiro128PlusPlusRandom split() {
+		return new Xoroshiro128PlusPlusRandom(nextLong());
+	}
+
+	/**
+	 * Advances 2^64 values, 2^64 generators jumped in turn never overlap.
+	 */
+	@Override
+	public void jump() {
+		long s0 = 0L;
+		long s1 = 0L;
+		for (long jump : JUMP) {
+			for (int bit = 0; bit < Long.SIZE; bit++) {
+				if ((jump & (1L << bit)) != 0) {
+					s0 ^= state0;
+					s1 ^= state1;
+				}
+				nextLong();
+			}
+		}
+		state0 = s0;
+		state1 = s1;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLruCacheTest {
+	@Test
+	void computeIfAbsentReturnsCached() {
+		// given
+		ConcurrentLruCache<String, String> sut = new ConcurrentLruCache<>(10);
+		sut.computeIfAbsent("key", it -> "value");
+
+		// when
+		String actual = sut.computeIfAbsent("key", it -> "other");
+
+		// then
+		then(actual).isEqualTo("value");
+	}
+
+	@Test
+	void evictLeastRecentlyUsedWhenExceedsMaxSize() {
+		// given
+		ConcurrentLruCache<String, Integer> sut = new ConcurrentLruCache<>(2);
+		sut.put("first", 1);
+		sut.put("second", 2);
+		sut.get("first");
+
+		// when
+		sut.put("third", 3);
+
+		// then
+		then(sut.size()).isEqualTo(2);
+		then(sut.get("first")).isEqualTo(1);
+		then(sut.get("second")).isNull();
+		then(sut.get("third")).isEqualTo(3);
+	}
+}
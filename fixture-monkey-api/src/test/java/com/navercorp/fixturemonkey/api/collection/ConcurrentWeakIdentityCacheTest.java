@@ -0,0 +1,110 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentWeakIdentityCacheTest {
+	@Test
+	void computeIfAbsentCountsHitAndMiss() {
+		// given
+		ConcurrentWeakIdentityCache<Object, String> sut = new ConcurrentWeakIdentityCache<>(10);
+		Object key = new Object();
+
+		// when
+		sut.computeIfAbsent(key, it -> "value");
+		String actual = sut.computeIfAbsent(key, it -> "other");
+
+		// then
+		then(actual).isEqualTo("value");
+		then(sut.getMissCount()).isEqualTo(1);
+		then(sut.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void keyComparedByIdentity() {
+		// given
+		ConcurrentWeakIdentityCache<List<String>, String> sut = new ConcurrentWeakIdentityCache<>(10);
+		List<String> key = Arrays.asList("a", "b");
+		sut.put(key, "value");
+
+		// when
+		String actual = sut.get(new ArrayList<>(key));
+
+		// then
+		then(actual).isNull();
+		then(sut.get(key)).isEqualTo("value");
+	}
+
+	@Test
+	void evictOldestWhenExceedsMaxSize() {
+		// given
+		ConcurrentWeakIdentityCache<Object, Integer> sut = new ConcurrentWeakIdentityCache<>(2);
+		Object first = new Object();
+		Object second = new Object();
+		Object third = new Object();
+
+		// when
+		sut.put(first, 1);
+		sut.put(second, 2);
+		sut.put(third, 3);
+
+		// then
+		then(sut.size()).isEqualTo(2);
+		then(sut.getEvictionCount()).isEqualTo(1);
+		then(sut.get(first)).isNull();
+		then(sut.get(third)).isEqualTo(3);
+	}
+
+	@Test
+	void computeIfAbsentConcurrentlyComputesOnce() throws Exception {
+		// given
+		ConcurrentWeakIdentityCache<Object, Integer> sut = new ConcurrentWeakIdentityCache<>(10);
+		Object key = new Object();
+		AtomicInteger count = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		// when
+		List<Future<Integer>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < 100; i++) {
+				futures.add(executorService.submit(() -> sut.computeIfAbsent(key, it -> count.incrementAndGet())));
+			}
+			for (Future<Integer> future : futures) {
+				future.get();
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		// then
+		then(count.get()).isEqualTo(1);
+		then(sut.getHitCount() + sut.getMissCount()).isEqualTo(100);
+	}
+}
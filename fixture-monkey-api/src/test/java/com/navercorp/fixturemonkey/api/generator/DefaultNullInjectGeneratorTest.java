@@ -210,6 +210,37 @@ class DefaultNullInjectGeneratorTest {
 		then(actual).isEqualTo(0.2d);
 	}
 
+	@Test
+	void generateSamePropertyAsContainerOrNot() {
+		// given
+		DefaultNullInjectGenerator sut = new DefaultNullInjectGenerator(
+			0.2,
+			false,
+			false,
+			false,
+			Collections.emptySet(),
+			Collections.emptySet()
+		);
+		TypeReference<SampleWithAnnotation> typeReference = new TypeReference<SampleWithAnnotation>() {
+		};
+		Property property = PropertyCache.getProperty(typeReference.getAnnotatedType(), "container").get();
+		ArbitraryPropertyGeneratorContext context = new ArbitraryPropertyGeneratorContext(
+			property,
+			null,
+			null,
+			null,
+			GenerateOptions.DEFAULT_GENERATE_OPTIONS
+		);
+		ArbitraryContainerInfo containerInfo = new ArbitraryContainerInfo(0, 3);
+
+		// when
+		double container = sut.generate(context, containerInfo);
+		double notContainer = sut.generate(context, null);
+
+		then(container).isEqualTo(0.0d);
+		then(notContainer).isEqualTo(0.2d);
+	}
+
 	static class SampleWithAnnotation {
 		@Nullable
 		private String nullable;
@@ -0,0 +1,90 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Shrinkable;
+
+class NonShrinkingArbitraryTest {
+	@Test
+	void generateUnshrinkable() {
+		// given
+		Arbitrary<Integer> sut = NonShrinkingArbitrary.of(Arbitraries.integers().between(1, 100));
+
+		// when
+		Shrinkable<Integer> actual = sut.generator(1000).next(new Random(1L));
+
+		// then
+		then(actual.value()).isBetween(1, 100);
+		then(actual.shrink()).isEmpty();
+	}
+
+	@Test
+	void valueMappedOnce() {
+		// given
+		AtomicInteger mapped = new AtomicInteger();
+		Arbitrary<Integer> sut = NonShrinkingArbitrary.of(
+			Arbitraries.integers().between(1, 100).map(it -> {
+				mapped.incrementAndGet();
+				return it;
+			})
+		);
+		Shrinkable<Integer> shrinkable = sut.generator(1000).next(new Random(1L));
+
+		// when
+		shrinkable.value();
+		shrinkable.value();
+
+		// then
+		then(mapped).hasValue(1);
+	}
+
+	@Test
+	void edgeCasesNone() {
+		// given
+		Arbitrary<Integer> sut = NonShrinkingArbitrary.of(Arbitraries.integers().between(1, 100));
+
+		// when
+		long actual = sut.edgeCases().size();
+
+		// then
+		then(actual).isZero();
+	}
+
+	@Test
+	void ofNonShrinkingReturnsSame() {
+		// given
+		Arbitrary<Integer> nonShrinking = NonShrinkingArbitrary.of(Arbitraries.integers());
+
+		// when
+		Arbitrary<Integer> actual = NonShrinkingArbitrary.of(nonShrinking);
+
+		// then
+		then(actual).isSameAs(nonShrinking);
+	}
+}
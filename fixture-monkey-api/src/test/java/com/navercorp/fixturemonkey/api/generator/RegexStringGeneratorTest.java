@@ -0,0 +1,126 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import dk.brics.automaton.RegExp;
+
+class RegexStringGeneratorTest {
+	@Test
+	void generateMatches() {
+		// given
+		RegexStringGenerator sut = RegexStringGenerator.of("\\d{3}-[a-z]+", RegExp.ALL, null, null);
+		Random random = new Random(1L);
+
+		for (int i = 0; i < 100; i++) {
+			// when
+			String actual = sut.generate(random);
+
+			// then
+			then(actual).matches("[0-9]{3}-[a-z]+");
+		}
+	}
+
+	@Test
+	void generateWithinLength() {
+		// given
+		RegexStringGenerator sut = RegexStringGenerator.of("[a-z]*", RegExp.ALL, 3, 5);
+		Random random = new Random(1L);
+
+		for (int i = 0; i < 100; i++) {
+			// when
+			String actual = sut.generate(random);
+
+			// then
+			then(actual).hasSizeBetween(3, 5);
+		}
+	}
+
+	@Test
+	void generateWithoutMaxLength() {
+		// given
+		RegexStringGenerator sut = RegexStringGenerator.of("[a-z]+", RegExp.ALL, 3, Integer.MAX_VALUE);
+		Random random = new Random(1L);
+
+		for (int i = 0; i < 100; i++) {
+			// when
+			String actual = sut.generate(random);
+
+			// then
+			then(actual).hasSizeGreaterThanOrEqualTo(3).matches("[a-z]+");
+		}
+	}
+
+	@Test
+	void generateFiniteWithoutMaxLength() {
+		// given
+		RegexStringGenerator sut = RegexStringGenerator.of("[a-z]{2,4}", RegExp.ALL, 3, Integer.MAX_VALUE);
+		Random random = new Random(1L);
+
+		for (int i = 0; i < 100; i++) {
+			// when
+			String actual = sut.generate(random);
+
+			// then
+			then(actual).hasSizeBetween(3, 4);
+		}
+	}
+
+	@Test
+	void generateNotBlank() {
+		// given
+		RegexStringGenerator sut = RegexStringGenerator.of("[ a]{1,3}", RegExp.ALL, null, null, true);
+		Random random = new Random(1L);
+
+		for (int i = 0; i < 100; i++) {
+			// when
+			String actual = sut.generate(random);
+
+			// then
+			then(actual).isNotBlank();
+		}
+	}
+
+	@Test
+	void compiledOnce() {
+		// when
+		RegexStringGenerator first = RegexStringGenerator.of("[a-z]{2}", RegExp.ALL, null, 10);
+		RegexStringGenerator second = RegexStringGenerator.of("[a-z]{2}", RegExp.ALL, null, 10);
+
+		// then
+		then(first).isSameAs(second);
+	}
+
+	@Test
+	void generateNoMatchThrows() {
+		// given
+		RegexStringGenerator sut = RegexStringGenerator.of("[a-z]{10}", RegExp.ALL, null, 5);
+
+		// when, then
+		thenThrownBy(() -> sut.generate(new Random(1L)))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("No string matches the regex.");
+	}
+}
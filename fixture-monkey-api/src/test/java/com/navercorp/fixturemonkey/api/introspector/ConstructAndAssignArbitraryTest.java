@@ -0,0 +1,82 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Shrinkable;
+
+class ConstructAndAssignArbitraryTest {
+	@Test
+	void generateAssignsChildrenInOrder() {
+		// given
+		Arbitrary<List<Object>> sut = ConstructAndAssignArbitrary.<List<Object>>builder(ArrayList::new)
+			.assign(Arbitraries.just("a"), List::add)
+			.assign(Arbitraries.just(1), List::add)
+			.assign(Arbitraries.just(true), List::add)
+			.build();
+
+		// when
+		List<Object> actual = sut.generator(1000).next(new Random(1L)).value();
+
+		// then
+		then(actual).containsExactly("a", 1, true);
+	}
+
+	@Test
+	void generateWideObject() {
+		// given
+		ConstructAndAssignArbitrary.Builder<List<Object>> builder = ConstructAndAssignArbitrary.builder(ArrayList::new);
+		for (int i = 0; i < 1000; i++) {
+			builder.assign(Arbitraries.just(i), List::add);
+		}
+		Arbitrary<List<Object>> sut = builder.build();
+
+		// when
+		List<Object> actual = sut.generator(1000).next(new Random(1L)).value();
+
+		// then
+		then(actual).hasSize(1000);
+	}
+
+	@Test
+	void shrinkChild() {
+		// given
+		Arbitrary<List<Object>> sut = ConstructAndAssignArbitrary.<List<Object>>builder(ArrayList::new)
+			.assign(Arbitraries.integers().between(0, 100), List::add)
+			.build();
+		Shrinkable<List<Object>> shrinkable = sut.generator(1000).next(new Random(1L));
+
+		// when
+		boolean actual = shrinkable.shrink()
+			.allMatch(it -> (Integer)it.value().get(0) <= (Integer)shrinkable.value().get(0));
+
+		// then
+		then(actual).isTrue();
+	}
+}
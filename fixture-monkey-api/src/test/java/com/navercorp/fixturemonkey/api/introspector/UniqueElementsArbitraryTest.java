@@ -0,0 +1,116 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.TooManyFilterMissesException;
+
+class UniqueElementsArbitraryTest {
+	@Test
+	void elementsAreUnique() {
+		// given
+		List<Arbitrary<?>> elementArbitraries = Collections.nCopies(3, Arbitraries.integers().between(0, 3));
+		UniqueElementsArbitrary sut = new UniqueElementsArbitrary(elementArbitraries, Function.identity(), null, 3);
+
+		// when
+		List<Object> actual = sut.sample();
+
+		// then
+		then(actual).hasSize(3);
+		then(new HashSet<>(actual)).hasSize(3);
+	}
+
+	@Test
+	void sizeCappedByEnumeratedValues() {
+		// given
+		List<Arbitrary<?>> elementArbitraries = Collections.nCopies(5, Arbitraries.integers().between(0, 1));
+		UniqueElementsArbitrary sut = new UniqueElementsArbitrary(elementArbitraries, Function.identity(), null, 0);
+
+		// when
+		List<Object> actual = sut.sample();
+
+		// then
+		then(actual).containsExactlyInAnyOrder(0, 1);
+	}
+
+	@Test
+	void minSizeGreaterThanEnumeratedValuesThrows() {
+		// given
+		List<Arbitrary<?>> elementArbitraries = Collections.nCopies(5, Arbitraries.integers().between(0, 2));
+		UniqueElementsArbitrary sut = new UniqueElementsArbitrary(elementArbitraries, Function.identity(), null, 5);
+
+		// when, then
+		thenThrownBy(sut::sample)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Failed to generate 5 unique elements, the elements have only 3 possible unique keys.");
+	}
+
+	@Test
+	void sizeCappedByKeyType() {
+		// given
+		List<Arbitrary<?>> elementArbitraries = Arrays.asList(
+			Arbitraries.strings().map(it -> true),
+			Arbitraries.strings().map(it -> false),
+			Arbitraries.strings().map(it -> true)
+		);
+		UniqueElementsArbitrary sut =
+			new UniqueElementsArbitrary(elementArbitraries, Function.identity(), Boolean.class, 0);
+
+		// when
+		List<Object> actual = sut.sample();
+
+		// then
+		then(actual).containsExactly(true, false);
+	}
+
+	@Test
+	void notUniqueElementsThrows() {
+		// given
+		List<Arbitrary<?>> elementArbitraries = Collections.nCopies(2, Arbitraries.strings().map(it -> "value"));
+		UniqueElementsArbitrary sut = new UniqueElementsArbitrary(elementArbitraries, Function.identity(), null, 2);
+
+		// when, then
+		thenThrownBy(sut::sample).isExactlyInstanceOf(TooManyFilterMissesException.class);
+	}
+
+	@Test
+	void notUniqueElementsLeftOutAboveMinSize() {
+		// given
+		List<Arbitrary<?>> elementArbitraries = Collections.nCopies(2, Arbitraries.strings().map(it -> "value"));
+		UniqueElementsArbitrary sut = new UniqueElementsArbitrary(elementArbitraries, Function.identity(), null, 1);
+
+		// when
+		List<Object> actual = sut.sample();
+
+		// then
+		then(actual).containsExactly("value");
+	}
+}
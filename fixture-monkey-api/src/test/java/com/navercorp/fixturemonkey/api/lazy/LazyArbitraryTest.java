@@ -0,0 +1,128 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.lazy;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary.LazyThreadSafetyMode;
+
+class LazyArbitraryTest {
+	private static final int THREAD_COUNT = 8;
+
+	@Test
+	void synchronizedInitializesOnce() throws Exception {
+		// given
+		AtomicInteger count = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(count::incrementAndGet, LazyThreadSafetyMode.SYNCHRONIZED);
+
+		// when
+		List<Integer> actual = getValueConcurrently(sut);
+
+		// then
+		then(count.get()).isEqualTo(1);
+		then(actual).containsOnly(1);
+	}
+
+	@Test
+	void publicationReturnsFirstPublishedValue() throws Exception {
+		// given
+		AtomicInteger count = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(count::incrementAndGet, LazyThreadSafetyMode.PUBLICATION);
+
+		// when
+		List<Integer> actual = getValueConcurrently(sut);
+
+		// then
+		then(actual).hasSize(THREAD_COUNT);
+		then(actual).containsOnly(actual.get(0));
+	}
+
+	@Test
+	void clearInitializesAgain() {
+		// given
+		AtomicInteger count = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(count::incrementAndGet, LazyThreadSafetyMode.PUBLICATION);
+		sut.getValue();
+
+		// when
+		sut.clear();
+
+		// then
+		then(sut.isInitialized()).isFalse();
+		then(sut.getValue()).isEqualTo(2);
+	}
+
+	@Test
+	void fixedNotCleared() {
+		// given
+		AtomicInteger count = new AtomicInteger();
+		LazyArbitrary<Integer> sut = LazyArbitrary.lazy(
+			count::incrementAndGet,
+			true,
+			LazyThreadSafetyMode.SYNCHRONIZED
+		);
+		sut.getValue();
+
+		// when
+		sut.clear();
+
+		// then
+		then(sut.isInitialized()).isTrue();
+		then(sut.getValue()).isEqualTo(1);
+	}
+
+	private static List<Integer> getValueConcurrently(LazyArbitrary<Integer> lazyArbitrary) throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int i = 0; i < THREAD_COUNT; i++) {
+				tasks.add(() -> {
+					latch.await();
+					return lazyArbitrary.getValue();
+				});
+			}
+
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (Callable<Integer> task : tasks) {
+				futures.add(executorService.submit(task));
+			}
+			latch.countDown();
+
+			List<Integer> result = new ArrayList<>();
+			for (Future<Integer> future : futures) {
+				result.add(future.get());
+			}
+			return result;
+		} finally {
+			executorService.shutdown();
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+	@Test
+	void record() {
+		// given
+		Histogram sut = new Histogram();
+
+		// when
+		for (long value = 1; value <= 100; value++) {
+			sut.record(value);
+		}
+
+		// then
+		then(sut.getCount()).isEqualTo(100);
+		then(sut.getSum()).isEqualTo(5050);
+		then(sut.getMax()).isEqualTo(100);
+		then(sut.getMean()).isEqualTo(50.5d);
+	}
+
+	@Test
+	void percentileIsUpperBoundOfBucket() {
+		// given
+		Histogram sut = new Histogram();
+		for (long value = 1; value <= 100; value++) {
+			sut.record(value);
+		}
+
+		// when
+		long actual = sut.getPercentile(50);
+
+		// then
+		then(actual).isEqualTo(63);
+		then(sut.getPercentile(100)).isEqualTo(100);
+	}
+
+	@Test
+	void percentileEmpty() {
+		// when
+		long actual = new Histogram().getPercentile(99);
+
+		then(actual).isZero();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.option;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.random.RandomGeneratorFactory;
+import com.navercorp.fixturemonkey.api.random.SplitMix64Random;
+import com.navercorp.fixturemonkey.api.random.SplittableRandomGenerator;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class GenerateOptionsTest {
+	@Test
+	void getPropertyNameResolverFirstMatchedAssignableType() {
+		// given
+		PropertyNameResolver expected = property -> "assignable";
+		GenerateOptions sut = GenerateOptions.builder()
+			.insertFirstPropertyNameResolver(MatcherOperator.exactTypeMatchOperator(String.class, property -> "exact"))
+			.insertFirstPropertyNameResolver(CharSequence.class, expected)
+			.build();
+		Property property = getProperty("str");
+
+		// when
+		PropertyNameResolver actual = sut.getPropertyNameResolver(property);
+
+		then(actual).isSameAs(expected);
+	}
+
+	@Test
+	void getPropertyNameResolverFirstMatchedExactType() {
+		// given
+		PropertyNameResolver expected = property -> "exact";
+		GenerateOptions sut = GenerateOptions.builder()
+			.insertFirstPropertyNameResolver(CharSequence.class, property -> "assignable")
+			.insertFirstPropertyNameResolver(MatcherOperator.exactTypeMatchOperator(String.class, expected))
+			.build();
+		Property property = getProperty("str");
+
+		// when
+		PropertyNameResolver actual = sut.getPropertyNameResolver(property);
+
+		then(actual).isSameAs(expected);
+	}
+
+	@Test
+	void getPropertyNameResolverFirstMatchedCustomMatcher() {
+		// given
+		PropertyNameResolver expected = property -> "custom";
+		GenerateOptions sut = GenerateOptions.builder()
+			.insertFirstPropertyNameResolver(MatcherOperator.exactTypeMatchOperator(String.class, property -> "exact"))
+			.insertFirstPropertyNameResolver(property -> "str".equals(property.getName()), expected)
+			.build();
+		Property property = getProperty("str");
+
+		// when
+		PropertyNameResolver actual = sut.getPropertyNameResolver(property);
+
+		then(actual).isSameAs(expected);
+	}
+
+	@Test
+	void getPropertyNameResolverNotMatchedReturnsDefault() {
+		// given
+		GenerateOptions sut = GenerateOptions.builder()
+			.insertFirstPropertyNameResolver(MatcherOperator.exactTypeMatchOperator(Integer.class, property -> "exact"))
+			.build();
+		Property property = getProperty("str");
+
+		// when
+		PropertyNameResolver actual = sut.getPropertyNameResolver(property);
+
+		then(actual).isSameAs(sut.getDefaultPropertyNameResolver());
+	}
+
+	@Test
+	void randomGeneratorFactoryLoadedByServiceLoader() {
+		// when
+		GenerateOptions actual = GenerateOptions.builder().build();
+
+		then(actual.getRandomGeneratorFactory()).isInstanceOf(ServiceLoadedRandomGeneratorFactory.class);
+	}
+
+	@Test
+	void randomGeneratorFactoryConfiguredOverServiceLoader() {
+		// given
+		RandomGeneratorFactory expected = RandomGeneratorFactory.XOROSHIRO_128_PLUS_PLUS;
+
+		// when
+		GenerateOptions actual = GenerateOptions.builder()
+			.randomGeneratorFactory(expected)
+			.build();
+
+		then(actual.getRandomGeneratorFactory()).isSameAs(expected);
+	}
+
+	private static Property getProperty(String name) {
+		TypeReference<Sample> typeReference = new TypeReference<Sample>() {
+		};
+		return PropertyCache.getProperty(typeReference.getAnnotatedType(), name).get();
+	}
+
+	public static class Sample {
+		private String str;
+	}
+
+	public static class ServiceLoadedRandomGeneratorFactory implements RandomGeneratorFactory {
+		@Override
+		public SplittableRandomGenerator create(long seed) {
+			return new SplitMix64Random(seed);
+		}
+	}
+}
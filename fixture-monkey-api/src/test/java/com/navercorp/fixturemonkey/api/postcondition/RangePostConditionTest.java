@@ -0,0 +1,49 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.postcondition;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class RangePostConditionTest {
+	@Test
+	void testNumbers() {
+		// given
+		RangePostCondition<Number> sut = RangePostCondition.between(1, 3);
+
+		// when, then
+		then(sut.test(1)).isTrue();
+		then(sut.test(3L)).isTrue();
+		then(sut.test(3.5d)).isFalse();
+		then(sut.test(new BigDecimal("0.9"))).isFalse();
+		then(sut.test(null)).isFalse();
+	}
+
+	@Test
+	void minGreaterThanMaxThrows() {
+		thenThrownBy(() -> RangePostCondition.between(3, 1))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("min should not be greater than max.");
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class AccessorFactoryTest {
+	@Test
+	void fieldGetter() throws NoSuchFieldException {
+		Field field = PropertyValue.class.getDeclaredField("name");
+
+		Object actual = AccessorFactory.getter(field).apply(new PropertyValue("hello world"));
+
+		then(actual).isEqualTo("hello world");
+	}
+
+	@Test
+	void fieldSetter() throws NoSuchFieldException {
+		Field field = PropertyValue.class.getDeclaredField("name");
+		PropertyValue propertyValue = new PropertyValue("hello world");
+
+		AccessorFactory.setter(field).accept(propertyValue, "changed");
+
+		then(propertyValue.getName()).isEqualTo("changed");
+	}
+
+	@Test
+	void fieldGetterCached() throws NoSuchFieldException {
+		Field field = PropertyValue.class.getDeclaredField("name");
+
+		then(AccessorFactory.getter(field)).isSameAs(AccessorFactory.getter(field));
+	}
+
+	@Test
+	void methodGetter() throws NoSuchMethodException {
+		Method method = PropertyValue.class.getDeclaredMethod("getName");
+
+		Object actual = AccessorFactory.getter(method).apply(new PropertyValue("hello world"));
+
+		then(actual).isEqualTo("hello world");
+	}
+
+	@Test
+	void methodSetterIgnoresReturnValue() throws NoSuchMethodException {
+		Method method = FluentValue.class.getDeclaredMethod("setValue", int.class);
+		FluentValue fluentValue = new FluentValue();
+
+		AccessorFactory.setter(method).accept(fluentValue, 1);
+
+		then(fluentValue.value).isEqualTo(1);
+	}
+
+	@Test
+	void privateConstructor() {
+		FluentValue actual = AccessorFactory.constructor(FluentValue.class).get();
+
+		then(actual).isNotNull();
+	}
+
+	@Test
+	void noDefaultConstructor() {
+		thenThrownBy(() -> AccessorFactory.constructor(PropertyValue.class))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("No default constructor");
+	}
+
+	@Test
+	void noDefaultConstructorFailingOnCall() {
+		Supplier<PropertyValue> constructor = AccessorFactory.constructorFailingOnCall(PropertyValue.class);
+
+		thenThrownBy(constructor::get)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("No default constructor");
+	}
+
+	private static class FluentValue {
+		private int value;
+
+		private FluentValue() {
+		}
+
+		FluentValue setValue(int value) {
+			this.value = value;
+			return this;
+		}
+	}
+}
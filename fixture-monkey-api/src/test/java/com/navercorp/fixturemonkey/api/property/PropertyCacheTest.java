@@ -21,6 +21,10 @@ package com.navercorp.fixturemonkey.api.property;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import java.beans.PropertyDescriptor;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
@@ -142,6 +146,58 @@ class PropertyCacheTest {
 		then(actual).isNotPresent();
 	}
 
+	@Test
+	void getPropertiesSameGenericsReturnsCached() {
+		// given
+		TypeReference<GenericSample<String>> typeReference = new TypeReference<GenericSample<String>>() {
+		};
+		TypeReference<GenericSample<String>> otherTypeReference = new TypeReference<GenericSample<String>>() {
+		};
+
+		// when
+		List<Property> actual = PropertyCache.getProperties(typeReference.getAnnotatedType());
+
+		List<Property> expected = PropertyCache.getProperties(otherTypeReference.getAnnotatedType());
+		then(actual).isSameAs(expected);
+	}
+
+	@Test
+	void getPropertiesDifferentGenerics() {
+		// given
+		TypeReference<GenericSample<String>> typeReference = new TypeReference<GenericSample<String>>() {
+		};
+		TypeReference<GenericSample<Integer>> otherTypeReference = new TypeReference<GenericSample<Integer>>() {
+		};
+
+		// when
+		Optional<Property> actual = PropertyCache.getProperty(typeReference.getAnnotatedType(), "name");
+
+		Optional<Property> other = PropertyCache.getProperty(otherTypeReference.getAnnotatedType(), "name");
+		then(actual).isPresent();
+		then(other).isPresent();
+		then(actual.get().getType()).isEqualTo(String.class);
+		then(other.get().getType()).isEqualTo(Integer.class);
+	}
+
+	@Test
+	void getPropertiesDifferentTypeAnnotation() {
+		// given
+		TypeReference<GenericSample<@TypeAnnotation String>> typeReference =
+			new TypeReference<GenericSample<@TypeAnnotation String>>() {
+			};
+		TypeReference<GenericSample<String>> otherTypeReference = new TypeReference<GenericSample<String>>() {
+		};
+
+		// when
+		Optional<Property> actual = PropertyCache.getProperty(typeReference.getAnnotatedType(), "name");
+
+		Optional<Property> other = PropertyCache.getProperty(otherTypeReference.getAnnotatedType(), "name");
+		then(actual).isPresent();
+		then(other).isPresent();
+		then(actual.get().getAnnotatedType().getAnnotation(TypeAnnotation.class)).isNotNull();
+		then(other.get().getAnnotatedType().getAnnotation(TypeAnnotation.class)).isNull();
+	}
+
 	@Test
 	void getFields() {
 		Map<String, Field> actual = PropertyCache.getFields(PropertyValue.class);
@@ -230,4 +286,9 @@ class PropertyCacheTest {
 			return this.address;
 		}
 	}
+
+	@Target(ElementType.TYPE_USE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface TypeAnnotation {
+	}
 }
@@ -0,0 +1,69 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
+
+class RandomsTest {
+	@Test
+	void currentWithinWithCurrent() {
+		// given
+		Random expected = RandomGeneratorFactory.SPLIT_MIX_64.create(1234L);
+
+		// when
+		Random actual = Randoms.withCurrent(expected, Randoms::current);
+
+		then(actual).isSameAs(expected);
+		then(Randoms.current()).isNotSameAs(expected);
+	}
+
+	@Test
+	void containerSizeReproducedByCurrent() {
+		// given
+		ArbitraryContainerInfo containerInfo = new ArbitraryContainerInfo(0, 100);
+		List<Integer> expected = Randoms.withCurrent(
+			RandomGeneratorFactory.XOROSHIRO_128_PLUS_PLUS.create(1234L),
+			() -> randomSizes(containerInfo)
+		);
+
+		// when
+		List<Integer> actual = Randoms.withCurrent(
+			RandomGeneratorFactory.XOROSHIRO_128_PLUS_PLUS.create(1234L),
+			() -> randomSizes(containerInfo)
+		);
+
+		then(actual).isEqualTo(expected);
+	}
+
+	private static List<Integer> randomSizes(ArbitraryContainerInfo containerInfo) {
+		List<Integer> sizes = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			sizes.add(containerInfo.getRandomSize());
+		}
+		return sizes;
+	}
+}
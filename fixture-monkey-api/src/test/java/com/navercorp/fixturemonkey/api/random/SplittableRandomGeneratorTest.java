@@ -0,0 +1,117 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SplittableRandomGeneratorTest {
+	@Test
+	void sameSeedReturnsSameValues() {
+		// given
+		SplittableRandomGenerator first = new Xoroshiro128PlusPlusRandom(1234L);
+		SplittableRandomGenerator second = new Xoroshiro128PlusPlusRandom(1234L);
+
+		// when
+		List<Long> actual = nextLongs(first, 10);
+
+		// then
+		List<Long> expected = nextLongs(second, 10);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void nextIntWithinBound() {
+		// given
+		SplittableRandomGenerator sut = new SplitMix64Random(1234L);
+
+		for (int i = 0; i < 1000; i++) {
+			// when
+			int actual = sut.nextInt(7);
+
+			// then
+			then(actual).isBetween(0, 6);
+		}
+	}
+
+	@Test
+	void nextIntNotPositiveBoundThrows() {
+		// given
+		SplittableRandomGenerator sut = new SplitMix64Random(1234L);
+
+		// when, then
+		thenThrownBy(() -> sut.nextInt(0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("bound must be positive");
+	}
+
+	@Test
+	void nextDoubleWithinUnitInterval() {
+		// given
+		SplittableRandomGenerator sut = new Xoroshiro128PlusPlusRandom(1234L);
+
+		for (int i = 0; i < 1000; i++) {
+			// when
+			double actual = sut.nextDouble();
+
+			// then
+			then(actual).isGreaterThanOrEqualTo(0.0d).isLessThan(1.0d);
+		}
+	}
+
+	@Test
+	void splitIsDeterministic() {
+		// given
+		SplittableRandomGenerator first = new SplitMix64Random(1234L);
+		SplittableRandomGenerator second = new SplitMix64Random(1234L);
+
+		// when
+		List<Long> actual = nextLongs(first.split(), 10);
+
+		// then
+		then(actual).isEqualTo(nextLongs(second.split(), 10));
+		then(actual).isNotEqualTo(nextLongs(first, 10));
+	}
+
+	@Test
+	void jumpAdvances() {
+		// given
+		SplittableRandomGenerator jumped = new Xoroshiro128PlusPlusRandom(1234L);
+		SplittableRandomGenerator notJumped = new Xoroshiro128PlusPlusRandom(1234L);
+
+		// when
+		jumped.jump();
+
+		// then
+		then(nextLongs(jumped, 10)).isNotEqualTo(nextLongs(notJumped, 10));
+	}
+
+	private static List<Long> nextLongs(SplittableRandomGenerator random, int size) {
+		List<Long> values = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			values.add(random.nextLong());
+		}
+		return values;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import lombok.Data;
+
+class BenchmarkSpecs {
+	@Data
+	public static class FlatObject {
+		private String str;
+		private int integer;
+		private long longValue;
+		private Double wrapperDouble;
+		private boolean bool;
+		private LocalDate date;
+		private SimpleEnum enumValue;
+	}
+
+	@Data
+	public static class DeepNestedObject {
+		private String str;
+		private NestedObject nested;
+	}
+
+	@Data
+	public static class NestedObject {
+		private String str;
+		private NestedLeafObject leaf;
+	}
+
+	@Data
+	public static class NestedLeafObject {
+		private String str;
+		private FlatObject flat;
+	}
+
+	@Data
+	public static class CollectionObject {
+		private List<FlatObject> list;
+		private Map<String, FlatObject> map;
+		private Set<String> strSet;
+		private String[] strArray;
+	}
+
+	@Data
+	public static class ValidatedObject {
+		@NotBlank
+		@Size(max = 20)
+		private String name;
+
+		@Min(0)
+		@Max(100)
+		private int score;
+
+		@Email
+		private String email;
+
+		@Positive
+		private int id;
+
+		@Pattern(regexp = "[a-z]{3}-[0-9]{4}")
+		private String code;
+
+		@NotNull
+		@Size(min = 1, max = 5)
+		private List<@NotBlank String> tags;
+	}
+
+	public enum SimpleEnum {
+		ENUM_1, ENUM_2, ENUM_3
+	}
+}
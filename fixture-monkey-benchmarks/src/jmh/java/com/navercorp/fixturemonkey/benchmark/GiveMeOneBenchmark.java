@@ -0,0 +1,79 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.CollectionObject;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.DeepNestedObject;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.FlatObject;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GiveMeOneBenchmark {
+	private LabMonkey labMonkey;
+	private FixtureMonkey fixtureMonkey;
+
+	@Setup
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkey();
+		fixtureMonkey = FixtureMonkey.create();
+	}
+
+	@Benchmark
+	public FlatObject labMonkeyFlat() {
+		return labMonkey.giveMeOne(FlatObject.class);
+	}
+
+	@Benchmark
+	public FlatObject fixtureMonkeyFlat() {
+		return fixtureMonkey.giveMeOne(FlatObject.class);
+	}
+
+	@Benchmark
+	public DeepNestedObject labMonkeyDeepNested() {
+		return labMonkey.giveMeOne(DeepNestedObject.class);
+	}
+
+	@Benchmark
+	public DeepNestedObject fixtureMonkeyDeepNested() {
+		return fixtureMonkey.giveMeOne(DeepNestedObject.class);
+	}
+
+	@Benchmark
+	public CollectionObject labMonkeyCollection() {
+		return labMonkey.giveMeOne(CollectionObject.class);
+	}
+
+	@Benchmark
+	public CollectionObject fixtureMonkeyCollection() {
+		return fixtureMonkey.giveMeOne(CollectionObject.class);
+	}
+}
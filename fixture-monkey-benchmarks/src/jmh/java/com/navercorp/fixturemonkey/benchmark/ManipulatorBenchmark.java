@@ -0,0 +1,94 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.CollectionObject;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.FlatObject;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.SimpleEnum;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ManipulatorBenchmark {
+	private LabMonkey labMonkey;
+	private FixtureMonkey fixtureMonkey;
+
+	@Setup
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkey();
+		fixtureMonkey = FixtureMonkey.create();
+	}
+
+	@Benchmark
+	public FlatObject labMonkeySetFlat() {
+		return setFlat(labMonkey.giveMeBuilder(FlatObject.class)).sample();
+	}
+
+	@Benchmark
+	public FlatObject fixtureMonkeySetFlat() {
+		return setFlat(fixtureMonkey.giveMeBuilder(FlatObject.class)).sample();
+	}
+
+	@Benchmark
+	public CollectionObject labMonkeySetCollection() {
+		return setCollection(labMonkey.giveMeBuilder(CollectionObject.class)).sample();
+	}
+
+	@Benchmark
+	public CollectionObject fixtureMonkeySetCollection() {
+		return setCollection(fixtureMonkey.giveMeBuilder(CollectionObject.class)).sample();
+	}
+
+	private static ArbitraryBuilder<FlatObject> setFlat(ArbitraryBuilder<FlatObject> builder) {
+		return builder
+			.set("str", "str")
+			.set("integer", 1)
+			.set("longValue", 2L)
+			.set("wrapperDouble", 3.0D)
+			.set("bool", true)
+			.set("date", LocalDate.of(2022, 1, 1))
+			.set("enumValue", SimpleEnum.ENUM_1);
+	}
+
+	private static ArbitraryBuilder<CollectionObject> setCollection(ArbitraryBuilder<CollectionObject> builder) {
+		return builder
+			.size("list", 5)
+			.set("list[*].str", "str")
+			.set("list[*].integer", 1)
+			.set("list[0].bool", true)
+			.size("strSet", 3)
+			.size("strArray", 3)
+			.set("strArray[*]", "str")
+			.setNotNull("map");
+	}
+}
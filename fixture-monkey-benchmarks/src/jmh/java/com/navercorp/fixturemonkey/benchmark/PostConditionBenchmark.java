@@ -0,0 +1,66 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.FlatObject;
+
+/**
+ * Post conditions which reject most of the generated values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PostConditionBenchmark {
+	private LabMonkey labMonkey;
+	private FixtureMonkey fixtureMonkey;
+
+	@Setup
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkey();
+		fixtureMonkey = FixtureMonkey.create();
+	}
+
+	@Benchmark
+	public FlatObject labMonkeyHighRejection() {
+		return labMonkey.giveMeBuilder(FlatObject.class)
+			.setPostCondition("integer", int.class, it -> it % 50 == 0)
+			.setPostCondition("str", String.class, it -> it.length() > 5)
+			.sample();
+	}
+
+	@Benchmark
+	public FlatObject fixtureMonkeyHighRejection() {
+		return fixtureMonkey.giveMeBuilder(FlatObject.class)
+			.setPostCondition("integer", int.class, it -> it % 50 == 0)
+			.setPostCondition("str", String.class, it -> it.length() > 5)
+			.sample();
+	}
+}
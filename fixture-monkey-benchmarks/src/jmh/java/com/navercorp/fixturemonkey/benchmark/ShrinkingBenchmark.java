@@ -0,0 +1,78 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.DeepNestedObject;
+
+/**
+ * Generates nested objects with and without shrinking, gc.alloc.rate.norm compares the allocations of each.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ShrinkingBenchmark {
+	private LabMonkey labMonkey;
+	private LabMonkey nonShrinkingLabMonkey;
+	private FixtureMonkey fixtureMonkey;
+	private FixtureMonkey nonShrinkingFixtureMonkey;
+
+	@Setup
+	public void setUp() {
+		labMonkey = LabMonkey.labMonkey();
+		nonShrinkingLabMonkey = LabMonkey.labMonkeyBuilder()
+			.shrinking(false)
+			.build();
+		fixtureMonkey = FixtureMonkey.create();
+		nonShrinkingFixtureMonkey = FixtureMonkey.builder()
+			.shrinking(false)
+			.build();
+	}
+
+	@Benchmark
+	public DeepNestedObject labMonkeyShrinking() {
+		return labMonkey.giveMeOne(DeepNestedObject.class);
+	}
+
+	@Benchmark
+	public DeepNestedObject labMonkeyNonShrinking() {
+		return nonShrinkingLabMonkey.giveMeOne(DeepNestedObject.class);
+	}
+
+	@Benchmark
+	public DeepNestedObject fixtureMonkeyShrinking() {
+		return fixtureMonkey.giveMeOne(DeepNestedObject.class);
+	}
+
+	@Benchmark
+	public DeepNestedObject fixtureMonkeyNonShrinking() {
+		return nonShrinkingFixtureMonkey.giveMeOne(DeepNestedObject.class);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.jackson.exporter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ExportReport {
+	private final long objectCount;
+	private final long byteCount;
+	private final long elapsedNanos;
+
+	public ExportReport(long objectCount, long byteCount, long elapsedNanos) {
+		this.objectCount = objectCount;
+		this.byteCount = byteCount;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long getObjectCount() {
+		return objectCount;
+	}
+
+	public long getByteCount() {
+		return byteCount;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public double getObjectsPerSecond() {
+		return perSecond(objectCount);
+	}
+
+	public double getBytesPerSecond() {
+		return perSecond(byteCount);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"ExportReport{objects=%d, bytes=%d, elapsed=%dms, objects/s=%.1f, bytes/s=%.1f}",
+			objectCount,
+			byteCount,
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+			getObjectsPerSecond(),
+			getBytesPerSecond()
+		);
+	}
+
+	private double perSecond(long amount) {
+		if (elapsedNanos <= 0) {
+			return 0.0d;
+		}
+		return amount * (double)TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+}
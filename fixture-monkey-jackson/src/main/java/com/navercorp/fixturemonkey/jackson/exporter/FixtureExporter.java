@@ -0,0 +1,177 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.jackson.exporter;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
+
+/**
+ * Writes fixtures into a file as JSON Lines, one fixture is serialized right after it is sampled.
+ * Fixtures are written through a single {@link JsonGenerator} on a buffered {@link FileChannel},
+ * only a chunk of fixtures is held in memory when they are sampled in parallel.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class FixtureExporter {
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int DEFAULT_CHUNK_SIZE = 1024;
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final LabMonkey labMonkey;
+	private final ObjectWriter objectWriter;
+	private final int chunkSize;
+
+	public FixtureExporter(LabMonkey labMonkey) {
+		this(labMonkey, FixtureMonkeyJackson.defaultObjectMapper(), DEFAULT_CHUNK_SIZE);
+	}
+
+	public FixtureExporter(LabMonkey labMonkey, ObjectMapper objectMapper, int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize should be positive. chunkSize: " + chunkSize);
+		}
+		this.labMonkey = labMonkey;
+		// a flush after each fixture would write through the channel for each fixture
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.chunkSize = chunkSize;
+	}
+
+	public ExportReport writeJsonLines(Class<?> type, int count, Path path) throws IOException {
+		return writeJsonLines(labMonkey.giveMeBuilder(type), count, path);
+	}
+
+	public ExportReport writeJsonLines(TypeReference<?> typeReference, int count, Path path) throws IOException {
+		return writeJsonLines(labMonkey.giveMeBuilder(typeReference), count, path);
+	}
+
+	public ExportReport writeJsonLines(ArbitraryBuilder<?> arbitraryBuilder, int count, Path path)
+		throws IOException {
+		return writeJsonLines(arbitraryBuilder, count, 1, path);
+	}
+
+	/**
+	 * Samples in chunks by {@link ArbitraryBuilder#sampleListParallel(int, int)} if parallelism is greater than 1.
+	 */
+	public ExportReport writeJsonLines(ArbitraryBuilder<?> arbitraryBuilder, int count, int parallelism, Path path)
+		throws IOException {
+		if (count < 0) {
+			throw new IllegalArgumentException("count should not be negative. count: " + count);
+		}
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism should be positive. parallelism: " + parallelism);
+		}
+
+		long startNanos = System.nanoTime();
+		long byteCount;
+		try (
+			FileChannel channel = FileChannel.open(
+				path,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE
+			)
+		) {
+			CountingOutputStream outputStream = new CountingOutputStream(
+				new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)
+			);
+			try (JsonGenerator generator = objectWriter.getFactory().createGenerator(outputStream)) {
+				generator.setRootValueSeparator(null);
+				if (parallelism == 1) {
+					writeSequentially(generator, arbitraryBuilder, count);
+				} else {
+					writeInParallelChunks(generator, arbitraryBuilder, count, parallelism);
+				}
+			}
+			byteCount = outputStream.getCount();
+		}
+		return new ExportReport(count, byteCount, System.nanoTime() - startNanos);
+	}
+
+	private void writeSequentially(JsonGenerator generator, ArbitraryBuilder<?> arbitraryBuilder, int count)
+		throws IOException {
+		Iterator<?> fixtures = arbitraryBuilder.sampleStream().limit(count).iterator();
+		while (fixtures.hasNext()) {
+			writeLine(generator, fixtures.next());
+		}
+	}
+
+	private void writeInParallelChunks(
+		JsonGenerator generator,
+		ArbitraryBuilder<?> arbitraryBuilder,
+		int count,
+		int parallelism
+	) throws IOException {
+		int remaining = count;
+		while (remaining > 0) {
+			int size = Math.min(chunkSize, remaining);
+			for (Object fixture : arbitraryBuilder.sampleListParallel(size, parallelism)) {
+				writeLine(generator, fixture);
+			}
+			remaining -= size;
+		}
+	}
+
+	private void writeLine(JsonGenerator generator, Object fixture) throws IOException {
+		objectWriter.writeValue(generator, fixture);
+		generator.writeRaw(LINE_SEPARATOR);
+	}
+
+	private static final class CountingOutputStream extends FilterOutputStream {
+		private long count;
+
+		private CountingOutputStream(OutputStream outputStream) {
+			super(outputStream);
+		}
+
+		@Override
+		public void write(int value) throws IOException {
+			out.write(value);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			out.write(bytes, offset, length);
+			count += length;
+		}
+
+		private long getCount() {
+			return count;
+		}
+	}
+}
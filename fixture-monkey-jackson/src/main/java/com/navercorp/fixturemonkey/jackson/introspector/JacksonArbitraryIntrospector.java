@@ -27,8 +27,6 @@ import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
-import net.jqwik.api.Builders;
-import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -36,6 +34,7 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
+import com.navercorp.fixturemonkey.api.introspector.ConstructAndAssignArbitrary;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
@@ -60,23 +59,23 @@ public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 
-		BuilderCombinator<Map<String, Object>> builderCombinator = Builders.withBuilder(HashMap::new);
+		ConstructAndAssignArbitrary.Builder<Map<String, Object>> builder =
+			ConstructAndAssignArbitrary.builder(HashMap::new);
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String resolvePropertyName = arbitraryProperty.getResolvePropertyName();
 			Arbitrary<?> propertyArbitrary = childrenArbitraries.getOrDefault(
 				resolvePropertyName,
 				Arbitraries.just(null)
 			);
-			builderCombinator = builderCombinator.use(propertyArbitrary).in((map, value) -> {
+			builder.assign(propertyArbitrary, (map, value) -> {
 				if (value != null) {
 					map.put(resolvePropertyName, value);
 				}
-				return map;
 			});
 		}
 
 		return new ArbitraryIntrospectorResult(
-			builderCombinator.build(
+			builder.build().map(
 				map -> {
 					Property property = context.getProperty();
 					Class<?> type = Types.getActualType(property.getType());
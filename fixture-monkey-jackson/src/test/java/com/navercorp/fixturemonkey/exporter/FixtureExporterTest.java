@@ -0,0 +1,88 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.exporter;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Data;
+
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
+import com.navercorp.fixturemonkey.jackson.exporter.ExportReport;
+import com.navercorp.fixturemonkey.jackson.exporter.FixtureExporter;
+import com.navercorp.fixturemonkey.jackson.plugin.JacksonPlugin;
+
+class FixtureExporterTest {
+	private static final LabMonkey SUT = LabMonkey.labMonkeyBuilder()
+		.plugin(new JacksonPlugin())
+		.build();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writeJsonLines() throws IOException {
+		// given
+		FixtureExporter exporter = new FixtureExporter(SUT);
+		Path path = tempDir.resolve("fixtures.jsonl");
+
+		// when
+		ExportReport actual = exporter.writeJsonLines(JsonPropertyClass.class, 10, path);
+
+		// then
+		List<String> lines = Files.readAllLines(path);
+		then(lines).hasSize(10);
+		ObjectMapper objectMapper = FixtureMonkeyJackson.defaultObjectMapper();
+		for (String line : lines) {
+			then(objectMapper.readTree(line).has("jsonValue")).isTrue();
+		}
+		then(actual.getObjectCount()).isEqualTo(10);
+		then(actual.getByteCount()).isEqualTo(Files.size(path));
+	}
+
+	@Test
+	void writeJsonLinesInParallel() throws IOException {
+		// given
+		FixtureExporter exporter = new FixtureExporter(SUT, FixtureMonkeyJackson.defaultObjectMapper(), 3);
+		Path path = tempDir.resolve("fixtures.jsonl");
+
+		// when
+		exporter.writeJsonLines(SUT.giveMeBuilder(JsonPropertyClass.class), 10, 2, path);
+
+		// then
+		then(Files.readAllLines(path)).hasSize(10);
+	}
+
+	@Data
+	public static class JsonPropertyClass {
+		@JsonProperty("jsonValue")
+		private String value;
+	}
+}
@@ -18,10 +18,7 @@
 
 package com.navercorp.fixturemonkey.javax.validation.generator;
 
-import static java.util.stream.Collectors.toSet;
-
 import java.lang.annotation.Annotation;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotBlank;
@@ -32,15 +29,26 @@ import javax.validation.constraints.Null;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.collection.ConcurrentWeakIdentityCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryPropertyGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator;
 import com.navercorp.fixturemonkey.api.generator.NullInjectGenerator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class JavaxValidationNullInjectGenerator implements NullInjectGenerator {
+	private static final int ANNOTATION_FLAGS_CACHE_SIZE = 2048;
+	private static final int NULL = 1;
+	private static final int NOT_NULL = 1 << 1;
+	private static final int NOT_BLANK = 1 << 2;
+	private static final int NOT_EMPTY = 1 << 3;
+
 	private final NullInjectGenerator delegate;
+	private final ConcurrentWeakIdentityCache<Property, Integer> annotationFlagsByProperty =
+		new ConcurrentWeakIdentityCache<>(ANNOTATION_FLAGS_CACHE_SIZE);
 
 	public JavaxValidationNullInjectGenerator() {
 		this(new DefaultNullInjectGenerator());
@@ -55,11 +63,12 @@ public final class JavaxValidationNullInjectGenerator implements NullInjectGener
 		ArbitraryPropertyGeneratorContext context,
 		@Nullable ArbitraryContainerInfo containerInfo
 	) {
-		Set<Class<? extends Annotation>> annotations = context.getProperty().getAnnotations().stream()
-			.map(Annotation::annotationType)
-			.collect(toSet());
+		Property property = context.getProperty();
+		int annotationFlags = PropertyCache.isCacheable(property)
+			? annotationFlagsByProperty.computeIfAbsent(property, JavaxValidationNullInjectGenerator::toAnnotationFlags)
+			: toAnnotationFlags(property);
 
-		if (annotations.contains(Null.class)) {
+		if ((annotationFlags & NULL) != 0) {
 			return 1.0d;
 		}
 
@@ -68,20 +77,37 @@ public final class JavaxValidationNullInjectGenerator implements NullInjectGener
 			return nullInject;
 		}
 
-		if (annotations.contains(NotNull.class)) {
+		if ((annotationFlags & NOT_NULL) != 0) {
 			return 0.0d;
 		}
 
-		if (Types.getActualType(context.getProperty().getType()) == String.class) {
-			if (annotations.contains(NotBlank.class) || annotations.contains(NotEmpty.class)) {
+		if (Types.getActualType(property.getType()) == String.class) {
+			if ((annotationFlags & (NOT_BLANK | NOT_EMPTY)) != 0) {
 				return 0.0d;
 			}
 		}
 
-		if (containerInfo != null && annotations.contains(NotEmpty.class)) {
+		if (containerInfo != null && (annotationFlags & NOT_EMPTY) != 0) {
 			return 0.0d;
 		}
 
 		return nullInject;
 	}
+
+	private static int toAnnotationFlags(Property property) {
+		int annotationFlags = 0;
+		for (Annotation annotation : property.getAnnotations()) {
+			Class<? extends Annotation> annotationType = annotation.annotationType();
+			if (annotationType == Null.class) {
+				annotationFlags |= NULL;
+			} else if (annotationType == NotNull.class) {
+				annotationFlags |= NOT_NULL;
+			} else if (annotationType == NotBlank.class) {
+				annotationFlags |= NOT_BLANK;
+			} else if (annotationType == NotEmpty.class) {
+				annotationFlags |= NOT_EMPTY;
+			}
+		}
+		return annotationFlags;
+	}
 }
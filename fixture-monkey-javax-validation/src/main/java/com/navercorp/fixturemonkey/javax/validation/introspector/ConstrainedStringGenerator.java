@@ -0,0 +1,151 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.javax.validation.introspector;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.arbitraries.StringArbitrary;
+
+/**
+ * Generates strings satisfying the length, blankness and digits constraints together,
+ * a string is generated in one attempt without filtering.
+ */
+final class ConstrainedStringGenerator {
+	private static final char[] ALPHANUMERIC_CHARS =
+		"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+	private static final char[] ALPHABET_CHARS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+	private static final int MIN_EMAIL_LENGTH = 3;
+	private static final int MAX_LOCAL_PART_LENGTH = 64;
+	private static final int MAX_DOMAIN_PART_LENGTH = 255;
+	private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+	public Arbitrary<String> strings(StringArbitrary stringArbitrary, JavaxValidationStringConstraint constraint) {
+		BigInteger min = constraint.getMinSize();
+		BigInteger max = constraint.getMaxSize();
+		int minLength = min != null ? min.intValue() : 0;
+
+		if (constraint.isDigits()) {
+			// digits are never blank
+			if (constraint.isNotBlank()) {
+				minLength = Math.max(minLength, 1);
+			}
+			return withLength(stringArbitrary.numeric(), minLength, max != null ? max.intValue() : null);
+		}
+
+		stringArbitrary = stringArbitrary.ascii();
+		if (!constraint.isNotBlank()) {
+			return withLength(stringArbitrary, minLength, max != null ? max.intValue() : null);
+		}
+
+		// inserts a printable character into a string shorter by one
+		Arbitrary<String> rest = withLength(
+			stringArbitrary,
+			Math.max(minLength - 1, 0),
+			max != null ? max.intValue() - 1 : null
+		);
+		return Combinators.combine(
+			rest,
+			Arbitraries.chars().range('!', '~'),
+			Arbitraries.integers().greaterOrEqual(0)
+		).as((it, ch, position) -> new StringBuilder(it).insert(position % (it.length() + 1), ch).toString());
+	}
+
+	/**
+	 * Generates an email of which local part and domain part are sized to a length within the range.
+	 */
+	public Arbitrary<String> emails(@Nullable BigInteger min, @Nullable BigInteger max) {
+		int minLength = Math.max(min != null ? min.intValue() : 0, MIN_EMAIL_LENGTH);
+		int maxLength = MAX_LOCAL_PART_LENGTH + 1 + MAX_DOMAIN_PART_LENGTH;
+		if (max != null) {
+			maxLength = Math.min(max.intValue(), maxLength);
+		}
+
+		if (minLength > maxLength) {
+			throw new IllegalArgumentException(
+				"No email matches the size. min: " + min + " max: " + max
+			);
+		}
+
+		int emailMinLength = minLength;
+		int emailMaxLength = maxLength;
+		return Arbitraries.randomValue(random -> generateEmail(random, emailMinLength, emailMaxLength));
+	}
+
+	private static StringArbitrary withLength(StringArbitrary stringArbitrary, int min, @Nullable Integer max) {
+		stringArbitrary = stringArbitrary.ofMinLength(min);
+		if (max != null) {
+			stringArbitrary = stringArbitrary.ofMaxLength(max);
+		}
+		return stringArbitrary;
+	}
+
+	private static String generateEmail(Random random, int minLength, int maxLength) {
+		int length = minLength + random.nextInt(maxLength - minLength + 1);
+
+		// the domain part takes what the local part does not take
+		int minLocalPartLength = Math.max(1, length - 1 - MAX_DOMAIN_PART_LENGTH);
+		int maxLocalPartLength = Math.min(MAX_LOCAL_PART_LENGTH, length - 2);
+		int localPartLength = minLocalPartLength + random.nextInt(maxLocalPartLength - minLocalPartLength + 1);
+		int domainPartLength = length - 1 - localPartLength;
+
+		StringBuilder stringBuilder = new StringBuilder(length);
+		appendChars(stringBuilder, ALPHANUMERIC_CHARS, localPartLength, random);
+		stringBuilder.append('@');
+		appendDomain(stringBuilder, domainPartLength, random);
+		return stringBuilder.toString();
+	}
+
+	private static void appendDomain(StringBuilder stringBuilder, int length, Random random) {
+		if (length < 3) {
+			appendChars(stringBuilder, ALPHANUMERIC_CHARS, length, random);
+			return;
+		}
+
+		// labels separated by dots, the last one is an alphabetic top level domain
+		int topLevelDomainLength = Math.min(2 + random.nextInt(Math.min(length - 2, 4)), length - 2);
+		int remaining = length - 1 - topLevelDomainLength;
+		while (remaining > 0) {
+			int labelLength = Math.min(remaining, MAX_DOMAIN_LABEL_LENGTH);
+			if (remaining - labelLength == 1) {
+				// leaves at least one character for the next label
+				labelLength--;
+			}
+			appendChars(stringBuilder, ALPHANUMERIC_CHARS, labelLength, random);
+			remaining -= labelLength;
+			if (remaining > 0) {
+				stringBuilder.append('.');
+				remaining--;
+			}
+		}
+		stringBuilder.append('.');
+		appendChars(stringBuilder, ALPHABET_CHARS, topLevelDomainLength, random);
+	}
+
+	private static void appendChars(StringBuilder stringBuilder, char[] chars, int length, Random random) {
+		for (int i = 0; i < length; i++) {
+			stringBuilder.append(chars[random.nextInt(chars.length)]);
+		}
+	}
+}
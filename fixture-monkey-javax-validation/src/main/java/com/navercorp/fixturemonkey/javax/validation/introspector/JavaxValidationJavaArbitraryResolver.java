@@ -18,11 +18,8 @@
 
 package com.navercorp.fixturemonkey.javax.validation.introspector;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.List;
 import java.util.Optional;
 
 import javax.validation.constraints.Email;
@@ -31,7 +28,6 @@ import javax.validation.constraints.Pattern;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.arbitraries.BigDecimalArbitrary;
 import net.jqwik.api.arbitraries.BigIntegerArbitrary;
@@ -50,8 +46,8 @@ import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class JavaxValidationJavaArbitraryResolver implements JavaArbitraryResolver {
-	private static final String CONTROL_BLOCK = "\u0000-\u001f\u007f";
 	private static final RegexGenerator REGEX_GENERATOR = new RegexGenerator();
+	private static final ConstrainedStringGenerator STRING_GENERATOR = new ConstrainedStringGenerator();
 
 	private final JavaxValidationConstraintGenerator constraintGenerator;
 
@@ -71,61 +67,22 @@ public final class JavaxValidationJavaArbitraryResolver implements JavaArbitrary
 		JavaxValidationStringConstraint constraint = this.constraintGenerator.generateStringConstraint(context);
 		BigInteger min = constraint.getMinSize();
 		BigInteger max = constraint.getMaxSize();
-		boolean digits = constraint.isDigits();
-		boolean notBlank = constraint.isNotBlank();
 
 		Optional<Pattern> pattern = context.findAnnotation(Pattern.class);
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
-			if (notBlank) {
-				values = values.stream()
-					.filter(it -> it != null && it.trim().isEmpty())
-					.collect(toList());
-			}
-
-			return Arbitraries.of(values);
+			return REGEX_GENERATOR.generate(pattern.get(), minValue, maxValue, constraint.isNotBlank());
 		}
 
-		Arbitrary<String> arbitrary;
 		if (context.findAnnotation(Email.class).isPresent()) {
-			arbitrary = Web.emails().allowIpv4Host();
-			if (min != null) {
-				int emailMinLength = min.intValue();
-				arbitrary = arbitrary.filter(it -> it != null && it.length() >= emailMinLength);
-			}
-			if (max != null) {
-				int emailMaxLength = max.intValue();
-				arbitrary = arbitrary.filter(it -> it != null && it.length() <= emailMaxLength);
-			}
-		} else {
-			if (min != null) {
-				stringArbitrary = stringArbitrary.ofMinLength(min.intValue());
+			if (min == null && max == null) {
+				return Web.emails().allowIpv4Host();
 			}
-			if (max != null) {
-				stringArbitrary = stringArbitrary.ofMaxLength(max.intValue());
-			}
-			if (digits) {
-				stringArbitrary = stringArbitrary.numeric();
-			} else {
-				stringArbitrary = stringArbitrary.ascii();
-			}
-			arbitrary = stringArbitrary;
+			return STRING_GENERATOR.emails(min, max);
 		}
 
-		return arbitrary
-			.filter(it -> {
-				if (!notBlank) {
-					return true;
-				}
-
-				if (it == null || it.trim().length() == 0) {
-					return false;
-				}
-
-				return !CONTROL_BLOCK.equals(it.trim());
-			});
+		return STRING_GENERATOR.strings(stringArbitrary, constraint);
 	}
 
 	@Override
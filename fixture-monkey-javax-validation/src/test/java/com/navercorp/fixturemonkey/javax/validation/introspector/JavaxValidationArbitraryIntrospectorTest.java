@@ -24,6 +24,9 @@ import static org.assertj.core.api.BDDAssertions.thenNoException;
 import java.util.Collections;
 import java.util.regex.Pattern;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
+
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Property;
@@ -40,6 +43,8 @@ import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 
 class JavaxValidationArbitraryIntrospectorTest {
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
 	private final JavaxValidationJavaArbitraryResolver sut = new JavaxValidationJavaArbitraryResolver();
 
 	@Property
@@ -273,6 +278,138 @@ class JavaxValidationArbitraryIntrospectorTest {
 		then(value).containsOnlyOnce("@");
 	}
 
+	@Property
+	void stringEmailSize() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		TypeReference<StringIntrospectorSpec> typeReference = new TypeReference<StringIntrospectorSpec>() {
+		};
+		String propertyName = "sizedEmail";
+		com.navercorp.fixturemonkey.api.property.Property property =
+			PropertyCache.getProperty(typeReference.getAnnotatedType(), propertyName).get();
+		ArbitraryGeneratorContext context = new ArbitraryGeneratorContext(
+			new ArbitraryProperty(
+				property,
+				PropertyNameResolver.IDENTITY,
+				0.0D,
+				null,
+				Collections.emptyList(),
+				null
+			),
+			Collections.emptyList(),
+			null,
+			(ctx, prop) -> Arbitraries.just(null),
+			Collections.emptyList()
+		);
+
+		// when
+		Arbitrary<String> actual = this.sut.strings(stringArbitrary, context);
+
+		// then
+		String value = actual.sample();
+		then(value.length()).isBetween(10, 12);
+		then(VALIDATOR.validateValue(StringIntrospectorSpec.class, propertyName, value)).isEmpty();
+	}
+
+	@Property
+	void stringsNotBlankSingleCharacter() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		TypeReference<StringIntrospectorSpec> typeReference = new TypeReference<StringIntrospectorSpec>() {
+		};
+		String propertyName = "notBlankSingleCharacter";
+		com.navercorp.fixturemonkey.api.property.Property property =
+			PropertyCache.getProperty(typeReference.getAnnotatedType(), propertyName).get();
+		ArbitraryGeneratorContext context = new ArbitraryGeneratorContext(
+			new ArbitraryProperty(
+				property,
+				PropertyNameResolver.IDENTITY,
+				0.0D,
+				null,
+				Collections.emptyList(),
+				null
+			),
+			Collections.emptyList(),
+			null,
+			(ctx, prop) -> Arbitraries.just(null),
+			Collections.emptyList()
+		);
+
+		// when
+		Arbitrary<String> actual = this.sut.strings(stringArbitrary, context);
+
+		// then
+		String value = actual.sample();
+		then(value).hasSize(1);
+		then(value).isNotBlank();
+	}
+
+	@Property
+	void stringPatternNotBlank() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		TypeReference<StringIntrospectorSpec> typeReference = new TypeReference<StringIntrospectorSpec>() {
+		};
+		String propertyName = "notBlankPattern";
+		com.navercorp.fixturemonkey.api.property.Property property =
+			PropertyCache.getProperty(typeReference.getAnnotatedType(), propertyName).get();
+		ArbitraryGeneratorContext context = new ArbitraryGeneratorContext(
+			new ArbitraryProperty(
+				property,
+				PropertyNameResolver.IDENTITY,
+				0.0D,
+				null,
+				Collections.emptyList(),
+				null
+			),
+			Collections.emptyList(),
+			null,
+			(ctx, prop) -> Arbitraries.just(null),
+			Collections.emptyList()
+		);
+
+		// when
+		Arbitrary<String> actual = this.sut.strings(stringArbitrary, context);
+
+		// then
+		String value = actual.sample();
+		then(value).isNotBlank();
+		then(value).matches("[ a]{1,3}");
+	}
+
+	@Property
+	void stringPatternMinSize() {
+		// given
+		StringArbitrary stringArbitrary = Arbitraries.strings();
+		TypeReference<StringIntrospectorSpec> typeReference = new TypeReference<StringIntrospectorSpec>() {
+		};
+		String propertyName = "patternMinSize";
+		com.navercorp.fixturemonkey.api.property.Property property =
+			PropertyCache.getProperty(typeReference.getAnnotatedType(), propertyName).get();
+		ArbitraryGeneratorContext context = new ArbitraryGeneratorContext(
+			new ArbitraryProperty(
+				property,
+				PropertyNameResolver.IDENTITY,
+				0.0D,
+				null,
+				Collections.emptyList(),
+				null
+			),
+			Collections.emptyList(),
+			null,
+			(ctx, prop) -> Arbitraries.just(null),
+			Collections.emptyList()
+		);
+
+		// when
+		Arbitrary<String> actual = this.sut.strings(stringArbitrary, context);
+
+		// then
+		String value = actual.sample();
+		then(value).hasSizeGreaterThanOrEqualTo(3);
+		then(value).matches("[a-z]+");
+	}
+
 	@Property
 	void characters() {
 		// given
@@ -45,4 +45,20 @@ class StringIntrospectorSpec {
 
 	@Email
 	private String email;
+
+	@Email
+	@Size(min = 10, max = 12)
+	private String sizedEmail;
+
+	@NotBlank
+	@Size(max = 1)
+	private String notBlankSingleCharacter;
+
+	@NotBlank
+	@Pattern(regexp = "[ a]{1,3}")
+	private String notBlankPattern;
+
+	@Pattern(regexp = "[a-z]+")
+	@Size(min = 3)
+	private String patternMinSize;
 }
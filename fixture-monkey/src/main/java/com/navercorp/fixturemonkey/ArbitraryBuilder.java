@@ -152,6 +152,10 @@ public interface ArbitraryBuilder<T> {
 
 	List<T> sampleList(int size);
 
+	List<T> sampleListParallel(int size, int parallelism);
+
+	List<T> sampleListParallel(int size, int parallelism, long seed);
+
 	Stream<T> sampleStream();
 
 	ArbitraryBuilder<T> copy();
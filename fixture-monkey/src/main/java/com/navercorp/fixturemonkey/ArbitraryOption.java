@@ -98,6 +98,7 @@ public final class ArbitraryOption {
 	private final double nullInject;
 	private final boolean nullableContainer;
 	private final boolean defaultNotNull;
+	private final boolean shrinking;
 
 	public ArbitraryOption(
 		Map<Class<?>, AnnotatedArbitraryGenerator<?>> annotatedArbitraryMap,
@@ -111,7 +112,8 @@ public final class ArbitraryOption {
 		NullableArbitraryEvaluator nullableArbitraryEvaluator,
 		double nullInject,
 		boolean nullableContainer,
-		boolean defaultNotNull
+		boolean defaultNotNull,
+		boolean shrinking
 	) {
 		this.annotatedArbitraryMap = annotatedArbitraryMap;
 		this.interfaceSupplierMap = interfaceSupplierMap;
@@ -126,6 +128,7 @@ public final class ArbitraryOption {
 		this.nullInject = nullInject;
 		this.nullableContainer = nullableContainer;
 		this.defaultNotNull = defaultNotNull;
+		this.shrinking = shrinking;
 	}
 
 	public Set<String> getExceptGeneratePackages() {
@@ -208,6 +211,10 @@ public final class ArbitraryOption {
 		return defaultNotNull;
 	}
 
+	public boolean isShrinking() {
+		return shrinking;
+	}
+
 	public <T> ContainerArbitraryNodeGenerator getContainerArbitraryNodeGenerator(Class<T> clazz) {
 		return containerArbitraryNodeGeneratorMap.get(clazz);
 	}
@@ -303,6 +310,7 @@ public final class ArbitraryOption {
 		private double nullInject = 0.2;
 		private boolean nullableContainer = false;
 		private boolean defaultNotNull = false;
+		private boolean shrinking = true;
 
 		public FixtureOptionsBuilder addExceptGeneratePackage(String exceptGeneratePackage) {
 			this.exceptGeneratePackages.add(exceptGeneratePackage);
@@ -366,6 +374,11 @@ public final class ArbitraryOption {
 			return this;
 		}
 
+		public FixtureOptionsBuilder shrinking(boolean shrinking) {
+			this.shrinking = shrinking;
+			return this;
+		}
+
 		public FixtureOptionsBuilder register(
 			Class<?> clazz,
 			Function<FixtureMonkey, ArbitraryBuilder<?>> arbitraryBuildingSupplier
@@ -440,7 +453,8 @@ public final class ArbitraryOption {
 				nullableArbitraryEvaluator,
 				nullInject,
 				nullableContainer,
-				defaultNotNull
+				defaultNotNull,
+				shrinking
 			);
 		}
 	}
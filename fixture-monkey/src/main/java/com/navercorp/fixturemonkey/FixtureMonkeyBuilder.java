@@ -148,6 +148,11 @@ public class FixtureMonkeyBuilder {
 		return this;
 	}
 
+	public FixtureMonkeyBuilder shrinking(boolean shrinking) {
+		this.optionsBuilder.shrinking(shrinking);
+		return this;
+	}
+
 	public FixtureMonkeyBuilder register(
 		Class<?> clazz,
 		Function<FixtureMonkey, ArbitraryBuilder<?>> arbitraryBuildingSupplier
@@ -49,13 +49,15 @@ import com.navercorp.fixturemonkey.resolver.NodeSetDecomposedValueManipulator;
 import com.navercorp.fixturemonkey.resolver.RootNodeResolver;
 import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
 
+/**
+ * Options are frozen when it is created, so it could be shared among threads generating concurrently.
+ */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public class LabMonkey extends FixtureMonkey {
-	private final GenerateOptions generateOptions;
-	private final ManipulateOptionsBuilder manipulateOptionsBuilder;
+	private final ManipulateOptions manipulateOptions;
 	private final ArbitraryTraverser traverser;
-	private final ManipulatorOptimizer manipulatorOptimizer;
 	private final ArbitraryValidator validator;
+	private final ArbitraryResolver arbitraryResolver;
 
 	@SuppressFBWarnings("NP_NULL_PARAM_DEREF_NONVIRTUAL")
 	public LabMonkey(
@@ -66,14 +68,18 @@ public class LabMonkey extends FixtureMonkey {
 		ArbitraryValidator validator
 	) {
 		super(null, null, null, null, null);
-		this.generateOptions = generateOptions;
-		this.manipulateOptionsBuilder = manipulateOptionsBuilder;
-		this.traverser = traverser;
-		this.manipulatorOptimizer = manipulatorOptimizer;
-		this.validator = validator;
 		manipulateOptionsBuilder.propertyNameResolvers(generateOptions.getPropertyNameResolvers());
 		manipulateOptionsBuilder.defaultPropertyNameResolver(generateOptions.getDefaultPropertyNameResolver());
-		manipulateOptionsBuilder.sampleRegisteredArbitraryBuilder(this);
+		// registered builders are made by this LabMonkey on their first use, after it is constructed
+		this.manipulateOptions = manipulateOptionsBuilder.build(this);
+		this.traverser = traverser;
+		this.validator = validator;
+		this.arbitraryResolver = new ArbitraryResolver(
+			traverser,
+			manipulatorOptimizer,
+			generateOptions,
+			manipulateOptions
+		);
 	}
 
 	/**
@@ -93,17 +99,10 @@ public class LabMonkey extends FixtureMonkey {
 
 	@Override
 	public <T> DefaultArbitraryBuilder<T> giveMeBuilder(TypeReference<T> type) {
-		ManipulateOptions manipulateOptions = manipulateOptionsBuilder.build();
-
 		return new DefaultArbitraryBuilder<>(
 			manipulateOptions,
 			new RootProperty(type.getAnnotatedType()),
-			new ArbitraryResolver(
-				traverser,
-				manipulatorOptimizer,
-				generateOptions,
-				manipulateOptions
-			),
+			arbitraryResolver,
 			traverser,
 			this.validator,
 			new ArrayList<>(),
@@ -114,7 +113,6 @@ public class LabMonkey extends FixtureMonkey {
 
 	@Override
 	public <T> DefaultArbitraryBuilder<T> giveMeBuilder(T value) {
-		ManipulateOptions manipulateOptions = manipulateOptionsBuilder.build();
 		List<ArbitraryManipulator> manipulators = new ArrayList<>();
 		manipulators.add(
 			new ArbitraryManipulator(
@@ -126,12 +124,7 @@ public class LabMonkey extends FixtureMonkey {
 		return new DefaultArbitraryBuilder<>(
 			manipulateOptions,
 			new RootProperty(new LazyAnnotatedType<>(() -> value)),
-			new ArbitraryResolver(
-				traverser,
-				manipulatorOptimizer,
-				generateOptions,
-				manipulateOptions
-			),
+			arbitraryResolver,
 			traverser,
 			this.validator,
 			manipulators,
@@ -142,12 +135,12 @@ public class LabMonkey extends FixtureMonkey {
 
 	@Override
 	public <T> Stream<T> giveMe(Class<T> type) {
-		return this.giveMeBuilder(type).build().sampleStream();
+		return this.giveMeBuilder(type).sampleStream();
 	}
 
 	@Override
 	public <T> Stream<T> giveMe(TypeReference<T> typeReference) {
-		return this.giveMeBuilder(typeReference).build().sampleStream();
+		return this.giveMeBuilder(typeReference).sampleStream();
 	}
 
 	@Override
@@ -160,6 +153,14 @@ public class LabMonkey extends FixtureMonkey {
 		return this.giveMe(typeReference).limit(size).collect(toList());
 	}
 
+	public <T> List<T> giveMeParallel(Class<T> type, int size, int parallelism) {
+		return this.giveMeBuilder(type).sampleListParallel(size, parallelism);
+	}
+
+	public <T> List<T> giveMeParallel(TypeReference<T> typeReference, int size, int parallelism) {
+		return this.giveMeBuilder(typeReference).sampleListParallel(size, parallelism);
+	}
+
 	@Override
 	public <T> T giveMeOne(Class<T> type) {
 		return this.giveMe(type, 1).get(0);
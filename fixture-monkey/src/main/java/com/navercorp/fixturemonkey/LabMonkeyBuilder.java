@@ -25,10 +25,9 @@ import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerat
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
@@ -47,6 +46,8 @@ import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary.LazyThreadSafetyMode;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
@@ -54,10 +55,11 @@ import com.navercorp.fixturemonkey.api.option.GenerateOptions;
 import com.navercorp.fixturemonkey.api.option.GenerateOptionsBuilder;
 import com.navercorp.fixturemonkey.api.plugin.Plugin;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.random.RandomGeneratorFactory;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
 import com.navercorp.fixturemonkey.resolver.ArbitraryTraverser;
-import com.navercorp.fixturemonkey.resolver.DecomposableContainerValue;
+import com.navercorp.fixturemonkey.resolver.AssignableTypeDecomposedContainerValueFactory;
 import com.navercorp.fixturemonkey.resolver.DecomposedContainerValueFactory;
 import com.navercorp.fixturemonkey.resolver.ManipulateOptions;
 import com.navercorp.fixturemonkey.resolver.ManipulateOptionsBuilder;
@@ -81,7 +83,8 @@ public class LabMonkeyBuilder {
 			"given type is not supported container : " + obj.getClass().getTypeName()
 		);
 	};
-	private final Map<Class<?>, DecomposedContainerValueFactory> decomposableContainerFactoryMap = new HashMap<>();
+	private final Map<Class<?>, DecomposedContainerValueFactory> decomposableContainerFactoryMap =
+		new LinkedHashMap<>();
 
 	public LabMonkeyBuilder manipulatorOptimizer(ManipulatorOptimizer manipulatorOptimizer) {
 		this.manipulatorOptimizer = manipulatorOptimizer;
@@ -302,6 +305,16 @@ public class LabMonkeyBuilder {
 		return this;
 	}
 
+	public LabMonkeyBuilder shrinking(boolean shrinking) {
+		generateOptionsBuilder.shrinking(shrinking);
+		return this;
+	}
+
+	public LabMonkeyBuilder generationListener(GenerationListener generationListener) {
+		generateOptionsBuilder.generationListener(generationListener);
+		return this;
+	}
+
 	public LabMonkeyBuilder addExceptGeneratePackages(String... exceptGeneratePackages) {
 		for (String exceptGeneratePackage : exceptGeneratePackages) {
 			addExceptGeneratePackage(exceptGeneratePackage);
@@ -455,21 +468,10 @@ public class LabMonkeyBuilder {
 		}
 
 		manipulateOptionsBuilder.additionalDecomposedContainerValueFactory(
-			obj -> {
-				Class<?> actualType = obj.getClass();
-				for (
-					Entry<Class<?>, DecomposedContainerValueFactory> entry :
-					this.decomposableContainerFactoryMap.entrySet()
-				) {
-					Class<?> type = entry.getKey();
-					DecomposableContainerValue decomposedValue = entry.getValue().from(obj);
-
-					if (actualType.isAssignableFrom(type)) {
-						return decomposedValue;
-					}
-				}
-				return this.defaultDecomposedContainerValueFactory.from(obj);
-			}
+			new AssignableTypeDecomposedContainerValueFactory(
+				this.decomposableContainerFactoryMap,
+				this.defaultDecomposedContainerValueFactory
+			)
 		);
 
 		GenerateOptions generateOptions = generateOptionsBuilder.build();
@@ -488,4 +490,14 @@ public class LabMonkeyBuilder {
 		this.manipulateOptionsBuilder.expressionStrictMode(true);
 		return this;
 	}
+
+	public LabMonkeyBuilder lazyThreadSafetyMode(LazyThreadSafetyMode lazyThreadSafetyMode) {
+		this.manipulateOptionsBuilder.lazyThreadSafetyMode(lazyThreadSafetyMode);
+		return this;
+	}
+
+	public LabMonkeyBuilder randomGeneratorFactory(RandomGeneratorFactory randomGeneratorFactory) {
+		generateOptionsBuilder.randomGeneratorFactory(randomGeneratorFactory);
+		return this;
+	}
 }
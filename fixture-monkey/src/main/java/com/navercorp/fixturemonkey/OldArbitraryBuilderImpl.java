@@ -49,6 +49,7 @@ import net.jqwik.api.Combinators.F4;
 
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.expression.ExpressionGenerator;
+import com.navercorp.fixturemonkey.api.generator.NonShrinkingArbitrary;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.FieldProperty;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
@@ -73,6 +74,7 @@ import com.navercorp.fixturemonkey.arbitrary.ContainerSizeConstraint;
 import com.navercorp.fixturemonkey.arbitrary.ContainerSizeManipulator;
 import com.navercorp.fixturemonkey.arbitrary.MetadataManipulator;
 import com.navercorp.fixturemonkey.arbitrary.PostArbitraryManipulator;
+import com.navercorp.fixturemonkey.builder.ParallelSampler;
 import com.navercorp.fixturemonkey.customizer.ArbitraryCustomizer;
 import com.navercorp.fixturemonkey.customizer.ArbitraryCustomizers;
 import com.navercorp.fixturemonkey.customizer.ExpressionSpec;
@@ -246,6 +248,9 @@ public class OldArbitraryBuilderImpl<T> implements ArbitraryBuilder<T> {
 
 			buildArbitraryBuilder.apply(actualManipulators);
 			buildTree.update(buildArbitraryBuilder.generator, generatorMap);
+			if (!buildArbitraryBuilder.traverser.getArbitraryOption().isShrinking()) {
+				return NonShrinkingArbitrary.of(buildTree.getArbitrary());
+			}
 			return buildTree.getArbitrary();
 		}, this.validator, this.validOnly);
 	}
@@ -260,6 +265,16 @@ public class OldArbitraryBuilderImpl<T> implements ArbitraryBuilder<T> {
 		return this.sampleStream().limit(size).collect(toList());
 	}
 
+	@Override
+	public List<T> sampleListParallel(int size, int parallelism) {
+		return this.sampleListParallel(size, parallelism, Randoms.current().nextLong());
+	}
+
+	@Override
+	public List<T> sampleListParallel(int size, int parallelism, long seed) {
+		return ParallelSampler.sampleList(this, size, parallelism, seed);
+	}
+
 	@Override
 	public Stream<T> sampleStream() {
 		return this.build().sampleStream();
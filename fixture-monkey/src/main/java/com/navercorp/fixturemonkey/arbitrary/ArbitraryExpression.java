@@ -36,13 +36,13 @@ import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.expression.MonkeyExpression;
-import com.navercorp.fixturemonkey.resolver.ContainerElementNodeResolver;
+import com.navercorp.fixturemonkey.resolver.CompiledNodeResolver;
 import com.navercorp.fixturemonkey.resolver.NodeResolver;
-import com.navercorp.fixturemonkey.resolver.PropertyNameNodeResolver;
-import com.navercorp.fixturemonkey.resolver.RootNodeResolver;
 
 public final class ArbitraryExpression implements MonkeyExpression, Comparable<ArbitraryExpression> {
 	private final List<Exp> expList;
+	@Nullable
+	private volatile NodeResolver compiledNodeResolver;
 
 	private ArbitraryExpression(List<Exp> expList) {
 		this.expList = expList;
@@ -54,6 +54,9 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 			.collect(toList());
 	}
 
+	/**
+	 * Parses the expression, {@link ArbitraryExpressionFactory} keeps the recently parsed ones.
+	 */
 	public static ArbitraryExpression from(String expression) {
 		return new ArbitraryExpression(expression);
 	}
@@ -132,9 +135,26 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 	}
 
 	public NodeResolver toNodeResolver() {
-		NodeResolver nodeResolver = null;
+		NodeResolver nodeResolver = compiledNodeResolver;
+		if (nodeResolver == null) {
+			nodeResolver = compile();
+			compiledNodeResolver = nodeResolver;
+		}
+		return nodeResolver;
+	}
+
+	private CompiledNodeResolver compile() {
+		CompiledNodeResolver nodeResolver = CompiledNodeResolver.root();
 		for (Exp exp : expList) {
-			nodeResolver = exp.toNodeResolver(nodeResolver);
+			if (HEAD_NAME.equals(exp.name)) {
+				nodeResolver = CompiledNodeResolver.root();
+			} else {
+				nodeResolver = nodeResolver.propertyName(exp.name);
+			}
+
+			for (ExpIndex index : exp.indices) {
+				nodeResolver = nodeResolver.element(index.getIndex());
+			}
 		}
 		return nodeResolver;
 	}
@@ -242,24 +262,6 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 			return steps;
 		}
 
-		public NodeResolver toNodeResolver(@Nullable NodeResolver prevNodeResolver) {
-			NodeResolver nodeResolver;
-
-			if (HEAD_NAME.equals(name)) {
-				nodeResolver = new RootNodeResolver();
-			} else {
-				nodeResolver = new PropertyNameNodeResolver(
-					prevNodeResolver == null ? new RootNodeResolver() : prevNodeResolver,
-					name
-				);
-			}
-
-			for (ExpIndex index : indices) {
-				nodeResolver = new ContainerElementNodeResolver(nodeResolver, index.getIndex());
-			}
-			return nodeResolver;
-		}
-
 		public String getName() {
 			return name;
 		}
@@ -18,12 +18,61 @@
 
 package com.navercorp.fixturemonkey.arbitrary;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.expression.MonkeyExpression;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
 
+/**
+ * Keeps the recently used expressions in a bounded cache, an expression compiles its node resolver once.
+ * The expressions given to {@link #precompile(String...)} are compiled beforehand and never evicted.
+ */
 public final class ArbitraryExpressionFactory implements MonkeyExpressionFactory {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final int cacheSize;
+	private final ConcurrentLruCache<String, ArbitraryExpression> cache;
+	private final Map<String, ArbitraryExpression> precompiledExpressions;
+
+	public ArbitraryExpressionFactory() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	public ArbitraryExpressionFactory(int cacheSize) {
+		this(cacheSize, Collections.emptyMap());
+	}
+
+	private ArbitraryExpressionFactory(int cacheSize, Map<String, ArbitraryExpression> precompiledExpressions) {
+		this.cacheSize = cacheSize;
+		this.cache = new ConcurrentLruCache<>(cacheSize);
+		this.precompiledExpressions = precompiledExpressions;
+	}
+
+	/**
+	 * Returns a factory which keeps the given expressions compiled in addition to the ones of this factory.
+	 *
+	 * @param expressions the expressions used in many builders, such as the ones held as constants
+	 * @return a new factory, this factory is not changed
+	 */
+	public ArbitraryExpressionFactory precompile(String... expressions) {
+		Map<String, ArbitraryExpression> precompiledExpressions = new HashMap<>(this.precompiledExpressions);
+		for (String expression : expressions) {
+			ArbitraryExpression arbitraryExpression = ArbitraryExpression.from(expression);
+			arbitraryExpression.toNodeResolver();
+			precompiledExpressions.put(expression, arbitraryExpression);
+		}
+		return new ArbitraryExpressionFactory(cacheSize, Collections.unmodifiableMap(precompiledExpressions));
+	}
+
 	@Override
 	public MonkeyExpression from(String expression) {
-		return ArbitraryExpression.from(expression);
+		ArbitraryExpression precompiledExpression = precompiledExpressions.get(expression);
+		if (precompiledExpression != null) {
+			return precompiledExpression;
+		}
+		return cache.computeIfAbsent(expression, ArbitraryExpression::from);
 	}
 }
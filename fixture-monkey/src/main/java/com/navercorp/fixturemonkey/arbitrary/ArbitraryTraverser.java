@@ -52,6 +52,10 @@ public final class ArbitraryTraverser {
 		this.arbitraryOption = arbitraryOption;
 	}
 
+	public ArbitraryOption getArbitraryOption() {
+		return arbitraryOption;
+	}
+
 	public <T> void traverse(
 		ArbitraryTree<T> tree,
 		boolean keyOfMapStructure,
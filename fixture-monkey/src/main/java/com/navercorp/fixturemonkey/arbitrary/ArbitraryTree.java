@@ -21,7 +21,6 @@ package com.navercorp.fixturemonkey.arbitrary;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,19 +44,17 @@ public final class ArbitraryTree<T> {
 
 	@SuppressWarnings("rawtypes")
 	public Collection<ArbitraryNode> findAll(ArbitraryExpression arbitraryExpression) {
-		LinkedList<ArbitraryNode> selectNodes = new LinkedList<>();
+		List<ArbitraryNode> selectNodes = new ArrayList<>();
 		selectNodes.add(head);
 		head.setManipulated(true);
-		List<ArbitraryNode> nextNodes = new ArrayList<>();
 
 		List<Cursor> cursors = arbitraryExpression.toCursors();
 		for (Cursor cursor : cursors) {
-			while (!selectNodes.isEmpty()) {
-				ArbitraryNode<?> selectNode = selectNodes.poll();
+			List<ArbitraryNode> nextNodes = new ArrayList<>();
+			for (ArbitraryNode<?> selectNode : selectNodes) {
 				nextNodes.addAll(selectNode.findChildrenByCursor(cursor));
 			}
-			selectNodes.addAll(nextNodes);
-			nextNodes.clear();
+			selectNodes = nextNodes;
 		}
 		Collections.shuffle(selectNodes, Randoms.current());
 		return selectNodes;
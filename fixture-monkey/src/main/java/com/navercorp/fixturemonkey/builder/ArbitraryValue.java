@@ -18,12 +18,12 @@
 
 package com.navercorp.fixturemonkey.builder;
 
-import java.util.Map;
+import java.lang.reflect.Type;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 
@@ -38,6 +38,11 @@ import net.jqwik.api.RandomGenerator;
 import net.jqwik.api.Shrinkable;
 import net.jqwik.api.TooManyFilterMissesException;
 
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.api.random.RandomGeneratorFactory;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.api.random.SplittableRandomGenerator;
 import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -47,9 +52,19 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 	public ArbitraryValue(
 		Supplier<Arbitrary<T>> generateArbitrary,
 		ArbitraryValidator validator,
-		boolean validOnly
+		boolean validOnly,
+		GenerationListener generationListener,
+		@Nullable RandomGeneratorFactory randomGeneratorFactory,
+		Type rootType
 	) {
-		this.monkeyRandomGenerator = new MonkeyRandomGenerator<>(generateArbitrary, validator, validOnly);
+		this.monkeyRandomGenerator = new MonkeyRandomGenerator<>(
+			generateArbitrary,
+			validator,
+			validOnly,
+			generationListener,
+			randomGeneratorFactory,
+			rootType
+		);
 	}
 
 	@Override
@@ -63,41 +78,87 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 	}
 
 	private static final class MonkeyRandomGenerator<T> implements RandomGenerator<T> {
+		private static final ThreadLocal<SeededGenerator> SEEDED_GENERATOR = new ThreadLocal<>();
+
 		private final Logger log = LoggerFactory.getLogger(this.getClass());
 
 		private final Supplier<Arbitrary<T>> generateArbitrary;
 		private final boolean validOnly;
 		private final ArbitraryValidator validator;
-		@SuppressWarnings("rawtypes")
-		private final Map<String, ConstraintViolation> violations = new ConcurrentHashMap<>();
-		private Exception lastException;
+		private final GenerationListener generationListener;
+		@Nullable
+		private final RandomGeneratorFactory randomGeneratorFactory;
+		private final Type rootType;
+		// violations are described only if generation fails, a miss keeps the last exception only
+		private volatile ConstraintViolationException lastException;
 
 		private MonkeyRandomGenerator(
 			Supplier<Arbitrary<T>> generateArbitrary,
 			ArbitraryValidator validator,
-			boolean validOnly
+			boolean validOnly,
+			GenerationListener generationListener,
+			@Nullable RandomGeneratorFactory randomGeneratorFactory,
+			Type rootType
 		) {
 			this.generateArbitrary = generateArbitrary;
 			this.validator = validator;
 			this.validOnly = validOnly;
+			this.generationListener = generationListener;
+			this.randomGeneratorFactory = randomGeneratorFactory;
+			this.rootType = rootType;
 		}
 
-		@SuppressWarnings("unchecked")
 		@Override
 		public Shrinkable<T> next(Random random) {
+			Random source = source(random);
+			// container sizes and nested samples are drawn from the same source as the values
+			return Randoms.withCurrent(source, () -> generate(source));
+		}
+
+		/**
+		 * A configured generator is seeded by the given random, so a sample is still reproduced by jqwik's seed.
+		 * It is reused while jqwik passes the same random, {@code Randoms.create(seed)} passes a new one.
+		 */
+		private Random source(Random random) {
+			if (randomGeneratorFactory == null || random instanceof SplittableRandomGenerator) {
+				return random;
+			}
+
+			SeededGenerator seededGenerator = SEEDED_GENERATOR.get();
+			if (seededGenerator == null || !seededGenerator.isSeededBy(random, randomGeneratorFactory)) {
+				seededGenerator = new SeededGenerator(random, randomGeneratorFactory);
+				SEEDED_GENERATOR.set(seededGenerator);
+			}
+			return seededGenerator.generator;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Shrinkable<T> generate(Random source) {
 			try {
-				return getArbitrary()
-					.filter((Predicate<T>)this.validateFilter(validOnly))
+				Arbitrary<T> arbitrary = generateArbitrary.get();
+				long[] validateNanos = generationListener.isEnabled() ? new long[1] : null;
+				long startNanos = validateNanos != null ? System.nanoTime() : 0L;
+				Shrinkable<T> shrinkable = arbitrary
+					.filter((Predicate<T>)this.validateFilter(validOnly, validateNanos))
 					.generator(1000)
-					.next(random);
+					.next(source);
+				if (validateNanos != null) {
+					long sampleNanos = System.nanoTime() - startNanos - validateNanos[0];
+					generationListener.onPhase(rootType, GenerationPhase.SAMPLE, sampleNanos);
+				}
+				return shrinkable;
 			} catch (TooManyFilterMissesException ex) {
 				StringBuilder builder = new StringBuilder();
-				this.violations.values().forEach(violation -> builder
-					.append("- violation: ").append(violation.getMessage())
-					.append(", type: ").append(violation.getRootBeanClass())
-					.append(", property: ").append(violation.getPropertyPath())
-					.append(", invalidValue: ").append(violation.getInvalidValue())
-					.append("\n"));
+				if (lastException != null) {
+					for (ConstraintViolation<?> violation : lastException.getConstraintViolations()) {
+						builder
+							.append("- violation: ").append(violation.getMessage())
+							.append(", type: ").append(violation.getRootBeanClass())
+							.append(", property: ").append(violation.getPropertyPath())
+							.append(", invalidValue: ").append(violation.getInvalidValue())
+							.append("\n");
+					}
+				}
 
 				log.error("Fail to create valid arbitrary."
 					+ "\n\nFixture factory Constraint Violation messages. \n\n" + builder, lastException);
@@ -106,8 +167,11 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 			}
 		}
 
+		/**
+		 * @param validateNanos accumulates the elapsed time of validations, null if the listener is disabled
+		 */
 		@SuppressWarnings("rawtypes")
-		private Predicate validateFilter(boolean validOnly) {
+		private Predicate validateFilter(boolean validOnly, @Nullable long[] validateNanos) {
 			return fixture -> {
 				if (!validOnly) {
 					return true;
@@ -117,24 +181,46 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 					return true;
 				}
 
-				try {
-					this.validator.validate(fixture);
-					return true;
-				} catch (ConstraintViolationException ex) {
-					ex.getConstraintViolations().forEach(violation ->
-						this.violations.put(
-							violation.getRootBeanClass().getName() + violation.getPropertyPath(),
-							violation
-						)
-					);
-					this.lastException = ex;
+				if (validateNanos == null) {
+					return validate(fixture);
+				}
+
+				long startNanos = System.nanoTime();
+				boolean valid = validate(fixture);
+				long elapsedNanos = System.nanoTime() - startNanos;
+				validateNanos[0] += elapsedNanos;
+				generationListener.onPhase(rootType, GenerationPhase.VALIDATE, elapsedNanos);
+				if (!valid) {
+					generationListener.onValidationRejected(rootType);
 				}
-				return false;
+				return valid;
 			};
 		}
 
-		private synchronized Arbitrary<T> getArbitrary() {
-			return generateArbitrary.get();
+		private boolean validate(Object fixture) {
+			try {
+				this.validator.validate(fixture);
+				return true;
+			} catch (ConstraintViolationException ex) {
+				this.lastException = ex;
+			}
+			return false;
+		}
+	}
+
+	private static final class SeededGenerator {
+		private final Random seed;
+		private final RandomGeneratorFactory factory;
+		private final SplittableRandomGenerator generator;
+
+		private SeededGenerator(Random seed, RandomGeneratorFactory factory) {
+			this.seed = seed;
+			this.factory = factory;
+			this.generator = factory.create(seed.nextLong());
+		}
+
+		private boolean isSeededBy(Random seed, RandomGeneratorFactory factory) {
+			return this.seed == seed && this.factory == factory;
 		}
 	}
 }
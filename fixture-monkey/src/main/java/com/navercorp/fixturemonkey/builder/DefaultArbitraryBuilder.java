@@ -54,6 +54,7 @@ import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.customizer.ArbitraryCustomizer;
@@ -127,9 +128,9 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		NodeResolver nodeResolver = monkeyExpressionFactory.from(expression).toNodeResolver();
 
 		if (value instanceof Arbitrary) {
-			this.setLazy(expression, () -> ((Arbitrary<?>)value).sample(), limit);
+			this.setLazy(expression, () -> Randoms.sample((Arbitrary<?>)value), limit);
 		} else if (value instanceof DefaultArbitraryBuilder) {
-			this.setLazy(expression, () -> ((DefaultArbitraryBuilder<?>)value).sample());
+			this.setLazy(expression, () -> Randoms.sample(((DefaultArbitraryBuilder<?>)value).build()));
 		} else if (value == null) {
 			this.setNull(expression);
 		} else {
@@ -172,7 +173,7 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 	@Override
 	public ArbitraryBuilder<T> setLazy(String expression, Supplier<?> supplier, int limit) {
 		NodeResolver nodeResolver = monkeyExpressionFactory.from(expression).toNodeResolver();
-		LazyArbitrary<?> lazyArbitrary = LazyArbitrary.lazy(supplier);
+		LazyArbitrary<?> lazyArbitrary = LazyArbitrary.lazy(supplier, manipulateOptions.getLazyThreadSafetyMode());
 		lazyArbitraries.add(lazyArbitrary);
 		manipulators.add(
 			new ArbitraryManipulator(
@@ -284,7 +285,8 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 				T sampled = lazyBuilder.fixed().sample();
 				biConsumer.accept(sampled, lazyBuilder);
 				return lazyBuilder.sample();
-			}
+			},
+			manipulateOptions.getLazyThreadSafetyMode()
 		);
 
 		this.lazyArbitraries.add(lazyArbitrary);
@@ -402,13 +404,19 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 
 	@Override
 	public <U> ArbitraryBuilder<U> map(Function<T, U> mapper) {
-		LazyArbitrary<U> lazyArbitrary = LazyArbitrary.lazy(() -> mapper.apply(this.sample()));
+		LazyArbitrary<U> lazyArbitrary = LazyArbitrary.lazy(
+			() -> mapper.apply(this.sample()),
+			manipulateOptions.getLazyThreadSafetyMode()
+		);
 		return generateArbitraryBuilderLazily(lazyArbitrary);
 	}
 
 	@Override
 	public <U, R> ArbitraryBuilder<R> zipWith(ArbitraryBuilder<U> other, BiFunction<T, U, R> combinator) {
-		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(() -> combinator.apply(this.sample(), other.sample()));
+		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(
+			() -> combinator.apply(this.sample(), other.sample()),
+			manipulateOptions.getLazyThreadSafetyMode()
+		);
 		return generateArbitraryBuilderLazily(lazyArbitrary);
 	}
 
@@ -419,7 +427,8 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		F3<T, U, V, R> combinator
 	) {
 		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(
-			() -> combinator.apply(this.sample(), other.sample(), another.sample())
+			() -> combinator.apply(this.sample(), other.sample(), another.sample()),
+			manipulateOptions.getLazyThreadSafetyMode()
 		);
 		return generateArbitraryBuilderLazily(lazyArbitrary);
 	}
@@ -432,7 +441,8 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		F4<T, U, V, W, R> combinator
 	) {
 		LazyArbitrary<R> lazyArbitrary = LazyArbitrary.lazy(
-			() -> combinator.apply(this.sample(), other.sample(), another.sample(), theOther.sample())
+			() -> combinator.apply(this.sample(), other.sample(), another.sample(), theOther.sample()),
+			manipulateOptions.getLazyThreadSafetyMode()
 		);
 		return generateArbitraryBuilderLazily(lazyArbitrary);
 	}
@@ -451,7 +461,8 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 					combinedList.add(other.sample());
 				}
 				return combinator.apply(combinedList);
-			}
+			},
+			manipulateOptions.getLazyThreadSafetyMode()
 		);
 		return generateArbitraryBuilderLazily(lazyArbitrary);
 	}
@@ -483,7 +494,10 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 				return arbitrary;
 			},
 			this.validator,
-			this.validOnly
+			this.validOnly,
+			this.resolver.getGenerationListener(),
+			this.resolver.getRandomGeneratorFactory(),
+			this.rootProperty.getType()
 		);
 	}
 
@@ -502,6 +516,16 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		return this.sampleStream().limit(size).collect(toList());
 	}
 
+	@Override
+	public List<T> sampleListParallel(int size, int parallelism) {
+		return this.sampleListParallel(size, parallelism, Randoms.current().nextLong());
+	}
+
+	@Override
+	public List<T> sampleListParallel(int size, int parallelism, long seed) {
+		return ParallelSampler.sampleList(this, size, parallelism, seed);
+	}
+
 	@Override
 	public ArbitraryBuilder<T> copy() {
 		DefaultArbitraryBuilder<T> copied = new DefaultArbitraryBuilder<>(
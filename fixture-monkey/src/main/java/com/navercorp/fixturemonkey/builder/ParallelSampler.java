@@ -0,0 +1,107 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.builder;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * Samples a list by splitting it into parallelism workers run in {@link ForkJoinPool#commonPool()}.
+ * Each worker samples its own copy of the builder, built before the workers run,
+ * by the random of its thread seeded from a single seed, the result is reproducible for the same seed and parallelism.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ParallelSampler {
+	private ParallelSampler() {
+	}
+
+	public static <T> List<T> sampleList(ArbitraryBuilder<T> arbitraryBuilder, int size, int parallelism, long seed) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size should not be negative. size: " + size);
+		}
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism should be positive. parallelism: " + parallelism);
+		}
+
+		if (size == 0) {
+			return new ArrayList<>();
+		}
+
+		return sampleListInWorkers(arbitraryBuilder, size, Math.min(parallelism, size), seed);
+	}
+
+	private static <T> List<T> sampleListInWorkers(
+		ArbitraryBuilder<T> arbitraryBuilder,
+		int size,
+		int workerCount,
+		long seed
+	) {
+		Random seedGenerator = new Random(seed);
+		List<Callable<List<T>>> tasks = new ArrayList<>(workerCount);
+		for (int i = 0; i < workerCount; i++) {
+			int workerSize = size / workerCount + (i < size % workerCount ? 1 : 0);
+			long workerSeed = toWorkerSeed(seedGenerator.nextLong());
+			Arbitrary<T> arbitrary = arbitraryBuilder.copy().build();
+			tasks.add(() -> {
+				Randoms.create(Long.toString(workerSeed));
+				return arbitrary.sampleStream().limit(workerSize).collect(toList());
+			});
+		}
+
+		try {
+			List<T> result = new ArrayList<>(size);
+			for (Future<List<T>> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+				result.addAll(future.get());
+			}
+			return result;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while sampling in parallel.", ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw new IllegalStateException("Failed to sample in parallel.", cause);
+		}
+	}
+
+	private static long toWorkerSeed(long seed) {
+		return seed == 0L ? 1L : seed;
+	}
+}
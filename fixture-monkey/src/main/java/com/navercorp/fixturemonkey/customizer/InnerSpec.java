@@ -33,6 +33,7 @@ import org.apiguardian.api.API.Status;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.resolver.AddMapEntryNodeManipulator;
 import com.navercorp.fixturemonkey.resolver.ArbitraryManipulator;
 import com.navercorp.fixturemonkey.resolver.ArbitraryTraverser;
@@ -256,7 +257,10 @@ public final class InnerSpec {
 			return new NodeSetLazyManipulator<>(
 				traverser,
 				manipulateOptions,
-				LazyArbitrary.lazy(() -> ((Arbitrary<?>)value).sample())
+				LazyArbitrary.lazy(
+					() -> Randoms.sample((Arbitrary<?>)value),
+					manipulateOptions.getLazyThreadSafetyMode()
+				)
 			);
 		} else if (value == null) {
 			return new NodeNullityManipulator(true);
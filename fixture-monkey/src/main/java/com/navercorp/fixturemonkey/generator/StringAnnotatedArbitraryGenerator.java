@@ -18,10 +18,7 @@
 
 package com.navercorp.fixturemonkey.generator;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Optional;
 
 import javax.validation.constraints.Digits;
@@ -72,13 +69,11 @@ public class StringAnnotatedArbitraryGenerator implements AnnotatedArbitraryGene
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
+			Arbitrary<String> arbitrary = REGEX_GENERATOR.generate(pattern.get(), minValue, maxValue);
 			if (notBlank) {
-				values = values.stream()
-					.filter(this::isNotBlank)
-					.collect(toList());
+				arbitrary = arbitrary.filter(this::isNotBlank);
 			}
-			return Arbitraries.of(values);
+			return arbitrary;
 		}
 
 		Arbitrary<String> arbitrary;
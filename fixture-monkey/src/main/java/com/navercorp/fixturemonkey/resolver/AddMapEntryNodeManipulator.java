@@ -52,6 +52,11 @@ public final class AddMapEntryNodeManipulator implements NodeManipulator {
 			.getChildren().get(0);
 
 		arbitraryProperty.getChildProperties().add(entryNode.getProperty());
-		arbitraryNode.getChildren().add(entryNode);
+		arbitraryNode.addChild(entryNode);
+	}
+
+	@Override
+	public boolean isSampleDependent() {
+		return false;
 	}
 }
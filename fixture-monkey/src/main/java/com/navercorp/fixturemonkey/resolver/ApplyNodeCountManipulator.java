@@ -18,15 +18,27 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import static com.navercorp.fixturemonkey.Constants.MAX_MANIPULATION_COUNT;
+
 public final class ApplyNodeCountManipulator implements NodeManipulator {
 	private final NodeManipulator nodeManipulator;
+	private final boolean unlimited;
 	private int count;
 
 	public ApplyNodeCountManipulator(NodeManipulator nodeManipulator, int count) {
 		this.nodeManipulator = nodeManipulator;
+		this.unlimited = count == MAX_MANIPULATION_COUNT;
 		this.count = count;
 	}
 
+	public NodeManipulator getNodeManipulator() {
+		return nodeManipulator;
+	}
+
+	public boolean isUnlimited() {
+		return unlimited;
+	}
+
 	@Override
 	public void manipulate(ArbitraryNode arbitraryNode) {
 		if (count > 0) {
@@ -34,4 +46,9 @@ public final class ApplyNodeCountManipulator implements NodeManipulator {
 			nodeManipulator.manipulate(arbitraryNode);
 		}
 	}
+
+	@Override
+	public boolean isSampleDependent() {
+		return nodeManipulator.isSampleDependent();
+	}
 }
@@ -18,10 +18,22 @@ public final class ArbitraryManipulator {
 		this.nodeManipulator = nodeManipulator;
 	}
 
+	public NodeResolver getNodeResolver() {
+		return nodeResolver;
+	}
+
+	public NodeManipulator getNodeManipulator() {
+		return nodeManipulator;
+	}
+
 	public void manipulate(ArbitraryTree tree) {
 		List<ArbitraryNode> nodes = nodeResolver.resolve(tree);
 		for (ArbitraryNode node : nodes) {
 			nodeManipulator.manipulate(node);
 		}
 	}
+
+	public boolean isSampleDependent() {
+		return nodeManipulator.isSampleDependent();
+	}
 }
@@ -18,8 +18,14 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
+import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -30,6 +36,7 @@ import org.apiguardian.api.API.Status;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.property.ElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -38,6 +45,14 @@ final class ArbitraryNode {
 
 	private List<ArbitraryNode> children;
 
+	// indexes children, built at the first lookup and dropped when children are replaced
+	@Nullable
+	private Map<String, List<ArbitraryNode>> childrenByResolvePropertyName;
+	@Nullable
+	private Map<Integer, List<ArbitraryNode>> elementsBySequence;
+	@Nullable
+	private Property nonElementChildProperty;
+
 	@Nullable
 	private Arbitrary<?> arbitrary;
 
@@ -58,6 +73,12 @@ final class ArbitraryNode {
 
 	public void setChildren(List<ArbitraryNode> children) {
 		this.children = children;
+		invalidateChildrenIndex();
+	}
+
+	public void addChild(ArbitraryNode child) {
+		this.children.add(child);
+		invalidateChildrenIndex();
 	}
 
 	public ArbitraryProperty getArbitraryProperty() {
@@ -72,6 +93,37 @@ final class ArbitraryNode {
 		return this.children;
 	}
 
+	/**
+	 * Finds the children of the resolved property name, all of the children if it is
+	 * {@link com.navercorp.fixturemonkey.Constants#ALL_INDEX_STRING}.
+	 */
+	public List<ArbitraryNode> findChildrenByResolvePropertyName(String resolvePropertyName) {
+		if (resolvePropertyName.equals(ALL_INDEX_STRING)) {
+			return children;
+		}
+		if (childrenByResolvePropertyName == null) {
+			indexChildren();
+		}
+		return childrenByResolvePropertyName.getOrDefault(resolvePropertyName, Collections.emptyList());
+	}
+
+	/**
+	 * Finds the element children of the sequence, all of the element children if it is
+	 * {@link com.navercorp.fixturemonkey.Constants#NO_OR_ALL_INDEX_INTEGER_VALUE}.
+	 */
+	public List<ArbitraryNode> findElementsBySequence(int sequence) {
+		if (elementsBySequence == null) {
+			indexChildren();
+		}
+		if (nonElementChildProperty != null) {
+			throw new IllegalArgumentException("Resolved node is not element type. : " + nonElementChildProperty);
+		}
+		if (sequence == NO_OR_ALL_INDEX_INTEGER_VALUE) {
+			return children;
+		}
+		return elementsBySequence.getOrDefault(sequence, Collections.emptyList());
+	}
+
 	@Nullable
 	public Arbitrary<?> getArbitrary() {
 		return this.arbitrary;
@@ -90,4 +142,32 @@ final class ArbitraryNode {
 	public List<Predicate> getArbitraryFilters() {
 		return arbitraryFilters;
 	}
+
+	private void invalidateChildrenIndex() {
+		this.childrenByResolvePropertyName = null;
+		this.elementsBySequence = null;
+		this.nonElementChildProperty = null;
+	}
+
+	private void indexChildren() {
+		Map<String, List<ArbitraryNode>> childrenByName = new HashMap<>();
+		Map<Integer, List<ArbitraryNode>> elementsBySequence = new HashMap<>();
+		Property nonElementChildProperty = null;
+		for (ArbitraryNode child : children) {
+			ArbitraryProperty childArbitraryProperty = child.getArbitraryProperty();
+			childrenByName.computeIfAbsent(childArbitraryProperty.getResolvePropertyName(), it -> new ArrayList<>())
+				.add(child);
+
+			Property childProperty = childArbitraryProperty.getProperty();
+			if (childProperty instanceof ElementProperty) {
+				int sequence = ((ElementProperty)childProperty).getSequence();
+				elementsBySequence.computeIfAbsent(sequence, it -> new ArrayList<>()).add(child);
+			} else if (nonElementChildProperty == null) {
+				nonElementChildProperty = childProperty;
+			}
+		}
+		this.childrenByResolvePropertyName = childrenByName;
+		this.elementsBySequence = elementsBySequence;
+		this.nonElementChildProperty = nonElementChildProperty;
+	}
 }
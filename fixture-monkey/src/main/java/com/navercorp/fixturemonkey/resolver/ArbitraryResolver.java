@@ -18,32 +18,61 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.api.property.ElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.random.RandomGeneratorFactory;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ArbitraryResolver {
+	private static final int RESOLVED_CACHE_SIZE = 2048;
+	/**
+	 * Registered builders being sampled in the current thread, a registered builder is not applied to itself.
+	 */
+	private static final ThreadLocal<Set<ArbitraryBuilder<?>>> SAMPLING_REGISTERED_BUILDERS =
+		ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
 	private final ArbitraryTraverser traverser;
 	private final ManipulatorOptimizer manipulatorOptimizer;
 	private final GenerateOptions generateOptions;
 	private final ManipulateOptions manipulateOptions;
+	/**
+	 * Resolutions which do not depend on each sample, keyed by the root type, manipulators and customizers.
+	 */
+	private final ConcurrentLruCache<ResolutionKey, Arbitrary<?>> resolvedArbitraries =
+		new ConcurrentLruCache<>(RESOLVED_CACHE_SIZE);
+	// registered builders could be nested in each other, one lock for all of them does not deadlock
+	private final Object registeredSampleLock = new Object();
 
 	public ArbitraryResolver(
 		ArbitraryTraverser traverser,
@@ -57,22 +86,42 @@ public final class ArbitraryResolver {
 		this.manipulateOptions = manipulateOptions;
 	}
 
+	/**
+	 * Resolves an arbitrary. The resolved arbitrary is reused for the same root type and the same instances of
+	 * manipulators and customizers, if nothing in the resolution depends on each sample,
+	 * such as a lazy value or a container of random size.
+	 * Sampling a builder many times or giving the same class without manipulators reuses it.
+	 */
 	@SuppressWarnings("rawtypes")
 	public Arbitrary<?> resolve(
 		RootProperty rootProperty,
 		List<ArbitraryManipulator> manipulators,
 		List<MatcherOperator<? extends FixtureCustomizer>> customizers
 	) {
+		GenerationListener listener = generateOptions.getGenerationListener();
+		Type rootType = rootProperty.getType();
+		ResolutionKey resolutionKey = new ResolutionKey(rootProperty, manipulators, customizers);
+		Arbitrary<?> resolved = resolvedArbitraries.get(resolutionKey);
+		if (listener.isEnabled()) {
+			listener.onResolveCache(rootType, resolved != null);
+		}
+		if (resolved != null) {
+			return resolved;
+		}
+
+		long phaseStartNanos = listener.isEnabled() ? System.nanoTime() : 0L;
 		ArbitraryTree arbitraryTree = new ArbitraryTree(
 			this.traverser.traverse(rootProperty, null),
 			generateOptions,
 			customizers
 		);
+		phaseStartNanos = reportPhase(listener, rootType, GenerationPhase.TRAVERSE, phaseStartNanos);
 
 		List<ArbitraryManipulator> registeredManipulators = getRegisteredToManipulators(
 			manipulateOptions,
-			arbitraryTree.getMetadata()
+			arbitraryTree
 		);
+		phaseStartNanos = reportPhase(listener, rootType, GenerationPhase.REGISTER, phaseStartNanos);
 
 		List<ArbitraryManipulator> joinedManipulators =
 			Stream.concat(registeredManipulators.stream(), manipulators.stream())
@@ -81,49 +130,214 @@ public final class ArbitraryResolver {
 		List<ArbitraryManipulator> optimizedManipulator = manipulatorOptimizer
 			.optimize(joinedManipulators)
 			.getManipulators();
+		phaseStartNanos = reportPhase(listener, rootType, GenerationPhase.OPTIMIZE, phaseStartNanos);
 
 		for (ArbitraryManipulator manipulator : optimizedManipulator) {
 			manipulator.manipulate(arbitraryTree);
 		}
+		phaseStartNanos = reportPhase(listener, rootType, GenerationPhase.MANIPULATE, phaseStartNanos);
+
+		Arbitrary<?> arbitrary = arbitraryTree.generate();
+		reportPhase(listener, rootType, GenerationPhase.GENERATE, phaseStartNanos);
+		if (listener.isEnabled()) {
+			listener.onNodeCount(rootType, countNodes(arbitraryTree.findRoot()));
+		}
+
+		// a registered builder being sampled is left out of the resolution, it is not the same as others
+		if (SAMPLING_REGISTERED_BUILDERS.get().isEmpty()
+			&& !isSampleDependent(rootProperty, optimizedManipulator, arbitraryTree.findRoot())) {
+			resolvedArbitraries.put(resolutionKey, arbitrary);
+		}
+		return arbitrary;
+	}
+
+	public GenerationListener getGenerationListener() {
+		return generateOptions.getGenerationListener();
+	}
 
-		return arbitraryTree.generate();
+	@Nullable
+	public RandomGeneratorFactory getRandomGeneratorFactory() {
+		return generateOptions.getRandomGeneratorFactory();
+	}
+
+	private static long reportPhase(
+		GenerationListener listener,
+		Type rootType,
+		GenerationPhase phase,
+		long phaseStartNanos
+	) {
+		if (!listener.isEnabled()) {
+			return 0L;
+		}
+
+		long nowNanos = System.nanoTime();
+		listener.onPhase(rootType, phase, nowNanos - phaseStartNanos);
+		return nowNanos;
+	}
+
+	private static int countNodes(ArbitraryNode arbitraryNode) {
+		int count = 1;
+		for (ArbitraryNode child : arbitraryNode.getChildren()) {
+			count += countNodes(child);
+		}
+		return count;
+	}
+
+	private static boolean isSampleDependent(
+		RootProperty rootProperty,
+		List<ArbitraryManipulator> manipulators,
+		ArbitraryNode rootNode
+	) {
+		return rootProperty.getAnnotatedType() instanceof LazyAnnotatedType
+			|| manipulators.stream().anyMatch(ArbitraryManipulator::isSampleDependent)
+			|| hasRandomSizeContainer(rootNode);
+	}
+
+	private static boolean hasRandomSizeContainer(ArbitraryNode arbitraryNode) {
+		ArbitraryContainerInfo containerInfo = arbitraryNode.getArbitraryProperty().getContainerInfo();
+		if (containerInfo != null && containerInfo.getElementMinSize() != containerInfo.getElementMaxSize()) {
+			return true;
+		}
+
+		for (ArbitraryNode child : arbitraryNode.getChildren()) {
+			if (hasRandomSizeContainer(child)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private List<ArbitraryManipulator> getRegisteredToManipulators(
 		ManipulateOptions manipulateOptions,
-		ArbitraryTreeMetadata metadata
+		ArbitraryTree arbitraryTree
 	) {
 		List<ArbitraryManipulator> manipulators = new ArrayList<>();
-		Map<Property, List<ArbitraryNode>> nodesByType = metadata.getNodesByProperty();
-		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders =
-			manipulateOptions.getRegisteredArbitraryBuilders();
+		Map<Property, List<ArbitraryNode>> nodesByType = arbitraryTree.getMetadata().getNodesByProperty();
+		Map<ArbitraryNode, CompiledNodeResolver> pathsByNode = null;
+		Set<ArbitraryBuilder<?>> samplingRegisteredBuilders = SAMPLING_REGISTERED_BUILDERS.get();
 
 		for (Entry<Property, List<ArbitraryNode>> nodeByType : nodesByType.entrySet()) {
 			Property property = nodeByType.getKey();
 			List<ArbitraryNode> arbitraryNodes = nodeByType.getValue();
 
-			ArbitraryBuilder<?> registeredArbitraryBuilder = registeredArbitraryBuilders.stream()
-				.filter(it -> it.match(property))
-				.findFirst()
-				.map(MatcherOperator::getOperator)
-				.orElse(null);
-
-			if (registeredArbitraryBuilder == null) {
+			ArbitraryBuilder<?> registeredArbitraryBuilder = manipulateOptions.getRegisteredArbitraryBuilder(property);
+			if (registeredArbitraryBuilder == null || samplingRegisteredBuilders.contains(registeredArbitraryBuilder)) {
 				continue;
 			}
 
 			NodeManipulator nodeManipulator = new NodeSetLazyManipulator<>(
 				traverser,
 				manipulateOptions,
-				LazyArbitrary.lazy(registeredArbitraryBuilder::sample)
-			);
-			manipulators.add(
-				new ArbitraryManipulator(
-					(tree) -> arbitraryNodes,
-					nodeManipulator
+				LazyArbitrary.lazy(
+					() -> sampleRegistered(registeredArbitraryBuilder),
+					manipulateOptions.getLazyThreadSafetyMode()
 				)
 			);
+			if (pathsByNode == null) {
+				pathsByNode = new IdentityHashMap<>();
+				collectPaths(arbitraryTree.findRoot(), CompiledNodeResolver.root(), pathsByNode);
+			}
+
+			for (ArbitraryNode arbitraryNode : arbitraryNodes) {
+				manipulators.add(
+					new ArbitraryManipulator(
+						new IdentityNodeResolver(arbitraryNode, pathsByNode.get(arbitraryNode)),
+						nodeManipulator
+					)
+				);
+			}
 		}
 		return manipulators;
 	}
+
+	// a registered builder is shared among resolutions, its lazy values are cleared on each sample
+	private Object sampleRegistered(ArbitraryBuilder<?> registeredArbitraryBuilder) {
+		Set<ArbitraryBuilder<?>> samplingRegisteredBuilders = SAMPLING_REGISTERED_BUILDERS.get();
+		synchronized (registeredSampleLock) {
+			samplingRegisteredBuilders.add(registeredArbitraryBuilder);
+			try {
+				return Randoms.sample(registeredArbitraryBuilder.build());
+			} finally {
+				samplingRegisteredBuilders.remove(registeredArbitraryBuilder);
+			}
+		}
+	}
+
+	private static void collectPaths(
+		ArbitraryNode arbitraryNode,
+		CompiledNodeResolver path,
+		Map<ArbitraryNode, CompiledNodeResolver> pathsByNode
+	) {
+		pathsByNode.put(arbitraryNode, path);
+		for (ArbitraryNode child : arbitraryNode.getChildren()) {
+			Property childProperty = child.getProperty();
+			CompiledNodeResolver childPath = childProperty instanceof ElementProperty
+				? path.element(((ElementProperty)childProperty).getSequence())
+				: path.propertyName(child.getArbitraryProperty().getResolvePropertyName());
+			collectPaths(child, childPath, pathsByNode);
+		}
+	}
+
+	/**
+	 * A root type of a class is compared by equals, any other root type is compared by its property instance,
+	 * since annotations of its type arguments are not compared and a lazy type may change.
+	 * Manipulators and customizers are compared by their instances, they are copied not to be changed.
+	 */
+	private static final class ResolutionKey {
+		private final Object root;
+		private final List<ArbitraryManipulator> manipulators;
+		private final List<?> customizers;
+		private final int hashCode;
+
+		private ResolutionKey(RootProperty rootProperty, List<ArbitraryManipulator> manipulators, List<?> customizers) {
+			AnnotatedType annotatedType = rootProperty.getAnnotatedType();
+			boolean plainClass = !(annotatedType instanceof LazyAnnotatedType)
+				&& annotatedType.getType() instanceof Class
+				&& annotatedType.getAnnotations().length == 0;
+			this.root = plainClass ? annotatedType.getType() : rootProperty;
+			this.manipulators = new ArrayList<>(manipulators);
+			this.customizers = new ArrayList<>(customizers);
+			this.hashCode = 31 * (31 * root.hashCode() + identityHashCode(this.manipulators))
+				+ identityHashCode(this.customizers);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			ResolutionKey that = (ResolutionKey)obj;
+			return root.equals(that.root)
+				&& containsSameInstances(manipulators, that.manipulators)
+				&& containsSameInstances(customizers, that.customizers);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		private static int identityHashCode(List<?> list) {
+			int hashCode = 1;
+			for (Object element : list) {
+				hashCode = 31 * hashCode + System.identityHashCode(element);
+			}
+			return hashCode;
+		}
+
+		private static boolean containsSameInstances(List<?> list, List<?> other) {
+			if (list.size() != other.size()) {
+				return false;
+			}
+			for (int i = 0; i < list.size(); i++) {
+				if (list.get(i) != other.get(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
 }
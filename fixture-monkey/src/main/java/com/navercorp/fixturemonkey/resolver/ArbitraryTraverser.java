@@ -18,6 +18,10 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,16 +30,27 @@ import javax.annotation.Nullable;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryPropertyGeneratorContext;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ArbitraryTraverser {
+	private static final int SKELETON_CACHE_SIZE = 1024;
+
 	private final GenerateOptions generateOptions;
+	/**
+	 * Traversed trees of root types, never manipulated, the least recently used one is evicted.
+	 * Every resolution gets its own copy by {@link #copy(ArbitraryNode, ArbitraryProperty, Integer)}.
+	 */
+	private final ConcurrentLruCache<Type, ArbitraryNode> skeletonsByRootType =
+		new ConcurrentLruCache<>(SKELETON_CACHE_SIZE);
 
 	public ArbitraryTraverser(GenerateOptions generateOptions) {
 		this.generateOptions = generateOptions;
@@ -44,6 +59,24 @@ public final class ArbitraryTraverser {
 	public ArbitraryNode traverse(
 		Property property,
 		@Nullable ArbitraryContainerInfo containerInfo
+	) {
+		if (containerInfo == null
+			&& property instanceof RootProperty
+			&& isSkeletonCacheable(property.getAnnotatedType())
+		) {
+			ArbitraryNode skeleton = skeletonsByRootType.computeIfAbsent(
+				property.getType(),
+				type -> this.generate(property, null)
+			);
+			return this.copy(skeleton, null, null);
+		}
+
+		return this.generate(property, containerInfo);
+	}
+
+	private ArbitraryNode generate(
+		Property property,
+		@Nullable ArbitraryContainerInfo containerInfo
 	) {
 		ArbitraryPropertyGenerator arbitraryPropertyGenerator =
 			this.generateOptions.getArbitraryPropertyGenerator(property);
@@ -89,4 +122,73 @@ public final class ArbitraryTraverser {
 			children
 		);
 	}
+
+	/**
+	 * Copies the given skeleton node. {@link ArbitraryProperty} is immutable, so it is shared with the skeleton.
+	 * A container whose size is decided randomly is traversed again, so that its size varies between resolutions.
+	 */
+	private ArbitraryNode copy(
+		ArbitraryNode skeleton,
+		@Nullable ArbitraryProperty parentArbitraryProperty,
+		@Nullable Integer index
+	) {
+		ArbitraryProperty arbitraryProperty = skeleton.getArbitraryProperty();
+		ArbitraryContainerInfo containerInfo = arbitraryProperty.getContainerInfo();
+		if (containerInfo != null && containerInfo.getElementMinSize() != containerInfo.getElementMaxSize()) {
+			Property property = arbitraryProperty.getProperty();
+			ArbitraryProperty regenerated = this.generateOptions.getArbitraryPropertyGenerator(property).generate(
+				new ArbitraryPropertyGeneratorContext(
+					property,
+					index,
+					parentArbitraryProperty,
+					null,
+					this.generateOptions
+				)
+			);
+			return this.traverse(regenerated);
+		}
+
+		List<ArbitraryNode> skeletonChildren = skeleton.getChildren();
+		List<ArbitraryNode> children = new ArrayList<>(skeletonChildren.size());
+		for (int childIndex = 0; childIndex < skeletonChildren.size(); childIndex++) {
+			children.add(
+				this.copy(
+					skeletonChildren.get(childIndex),
+					arbitraryProperty,
+					containerInfo != null ? childIndex : null
+				)
+			);
+		}
+
+		return new ArbitraryNode(
+			arbitraryProperty,
+			children
+		);
+	}
+
+	/**
+	 * Only the types which could be identified by {@link Type} are cached.
+	 * Type annotations are not a part of {@link Type} equality and {@link LazyAnnotatedType} changes its type lazily.
+	 */
+	private static boolean isSkeletonCacheable(AnnotatedType annotatedType) {
+		if (annotatedType instanceof LazyAnnotatedType || annotatedType.getAnnotations().length != 0) {
+			return false;
+		}
+
+		if (annotatedType instanceof AnnotatedParameterizedType) {
+			for (AnnotatedType genericsType : ((AnnotatedParameterizedType)annotatedType)
+				.getAnnotatedActualTypeArguments()) {
+				if (!isSkeletonCacheable(genericsType)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		if (annotatedType instanceof AnnotatedArrayType) {
+			return isSkeletonCacheable(((AnnotatedArrayType)annotatedType).getAnnotatedGenericComponentType());
+		}
+
+		return annotatedType.getType() instanceof Class;
+	}
 }
@@ -35,11 +35,15 @@ import net.jqwik.api.Arbitrary;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.NonShrinkingArbitrary;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 final class ArbitraryTree {
+	private static final int MAX_NODE_FILTER_MISSES = 10000;
+
 	private final ArbitraryNode rootNode;
 	private final GenerateOptions generateOptions;
 	private final ArbitraryTreeMetadata metadata;
@@ -100,7 +104,8 @@ final class ArbitraryTree {
 
 				return generateArbitrary(ctx, node);
 			},
-			arbitraryCustomizers
+			arbitraryCustomizers,
+			arbitraryNode.getArbitraryFilters()
 		);
 	}
 
@@ -121,12 +126,13 @@ final class ArbitraryTree {
 				.generate(childArbitraryGeneratorContext);
 		}
 
+		// filters of a node are combined, a miss regenerates only this node and counts once for this node
 		List<Predicate> arbitraryFilters = node.getArbitraryFilters();
-		for (Predicate predicate : arbitraryFilters) {
-			generated = generated.filter(predicate);
+		if (!arbitraryFilters.isEmpty()) {
+			generated = generated.filter(value -> testFilters(arbitraryFilters, value), MAX_NODE_FILTER_MISSES);
 		}
 
-		return generated.map(
+		Arbitrary<?> customized = generated.map(
 			object -> ctx.getArbitraryCustomizers().stream()
 				.filter(it -> it.match(node.getProperty()))
 				.map(MatcherOperator::getOperator)
@@ -134,6 +140,30 @@ final class ArbitraryTree {
 				.map(it -> it.customizeFixture(object))
 				.orElse(object)
 		);
+
+		if (!this.generateOptions.isShrinking()) {
+			return NonShrinkingArbitrary.of(customized);
+		}
+		return customized;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private boolean testFilters(List<Predicate> filters, Object value) {
+		boolean passed = testAll(filters, value);
+		GenerationListener listener = generateOptions.getGenerationListener();
+		if (!passed && listener.isEnabled()) {
+			listener.onFilterMiss(rootNode.getProperty().getType());
+		}
+		return passed;
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static boolean testAll(List<Predicate> filters, Object value) {
+		for (Predicate filter : filters) {
+			if (!filter.test(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
@@ -0,0 +1,65 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Decomposes a container value by the factory of the first type assignable from its runtime class.
+ * The factory of a runtime class is resolved once.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class AssignableTypeDecomposedContainerValueFactory implements DecomposedContainerValueFactory {
+	private final Map<Class<?>, DecomposedContainerValueFactory> factoriesByAssignableType;
+	private final DecomposedContainerValueFactory defaultDecomposedContainerValueFactory;
+	private final Map<Class<?>, DecomposedContainerValueFactory> factoriesByType = new ConcurrentHashMap<>();
+
+	public AssignableTypeDecomposedContainerValueFactory(
+		Map<Class<?>, DecomposedContainerValueFactory> factoriesByAssignableType,
+		DecomposedContainerValueFactory defaultDecomposedContainerValueFactory
+	) {
+		this.factoriesByAssignableType = new LinkedHashMap<>(factoriesByAssignableType);
+		this.defaultDecomposedContainerValueFactory = defaultDecomposedContainerValueFactory;
+	}
+
+	@Override
+	public DecomposableContainerValue from(Object object) {
+		return factoriesByType.computeIfAbsent(object.getClass(), this::resolveFactory).from(object);
+	}
+
+	private DecomposedContainerValueFactory resolveFactory(Class<?> actualType) {
+		DecomposedContainerValueFactory factory = factoriesByAssignableType.get(actualType);
+		if (factory != null) {
+			return factory;
+		}
+
+		for (Entry<Class<?>, DecomposedContainerValueFactory> entry : factoriesByAssignableType.entrySet()) {
+			if (entry.getKey().isAssignableFrom(actualType)) {
+				return entry.getValue();
+			}
+		}
+		return defaultDecomposedContainerValueFactory;
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Collapses manipulations which would not change a generated object.
+ * Manipulators are compared by the normalized path of their expressions, it drops a set or nullity manipulator
+ * if a later set or {@code setNull} of the same path or its ancestor overwrites it,
+ * and keeps the last one of consecutive size manipulators of the same container.
+ * A manipulator of an unknown path, such as one of {@link com.navercorp.fixturemonkey.customizer.InnerSpec},
+ * is never dropped and no manipulator before it is dropped.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class CollapsingManipulatorOptimizer implements ManipulatorOptimizer {
+	@Override
+	public OptimizedManipulatorResult optimize(List<ArbitraryManipulator> manipulators) {
+		int size = manipulators.size();
+		if (size < 2) {
+			return new OptimizedManipulatorResult(manipulators);
+		}
+
+		CompiledNodeResolver[] paths = new CompiledNodeResolver[size];
+		for (int i = 0; i < size; i++) {
+			paths[i] = toPath(manipulators.get(i).getNodeResolver());
+		}
+
+		boolean[] dropped = new boolean[size];
+		dropFusedSizes(manipulators, paths, dropped);
+		dropOverwritten(manipulators, paths, dropped);
+
+		List<ArbitraryManipulator> optimized = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			if (!dropped[i]) {
+				optimized.add(manipulators.get(i));
+			}
+		}
+
+		if (optimized.size() == size) {
+			return new OptimizedManipulatorResult(manipulators);
+		}
+		return new OptimizedManipulatorResult(optimized);
+	}
+
+	/**
+	 * Drops a size manipulator followed by another one of the same container.
+	 * The elements would have the same state only if nothing before has manipulated the container or its elements.
+	 */
+	private static void dropFusedSizes(
+		List<ArbitraryManipulator> manipulators,
+		CompiledNodeResolver[] paths,
+		boolean[] dropped
+	) {
+		for (int i = 0; i < manipulators.size() - 1; i++) {
+			if (paths[i] == null) {
+				return;
+			}
+
+			if (!isBoundedSize(manipulators.get(i).getNodeManipulator())
+				|| !isBoundedSize(manipulators.get(i + 1).getNodeManipulator())
+				|| !paths[i].equals(paths[i + 1])) {
+				continue;
+			}
+
+			boolean manipulatedBefore = false;
+			for (int j = 0; j < i && !manipulatedBefore; j++) {
+				manipulatedBefore = !dropped[j] && (paths[i].overlaps(paths[j]) || paths[j].overlaps(paths[i]));
+			}
+			dropped[i] = !manipulatedBefore;
+		}
+	}
+
+	/**
+	 * Drops a manipulator if a later one overwrites its path or ancestor.
+	 * An overwritten state could be shown again by a manipulator after the overwriting one,
+	 * which resolves the same path or its descendant, the overwriting one is not used in that case.
+	 */
+	private static void dropOverwritten(
+		List<ArbitraryManipulator> manipulators,
+		CompiledNodeResolver[] paths,
+		boolean[] dropped
+	) {
+		List<CompiledNodeResolver> laterPaths = new ArrayList<>();
+		List<CompiledNodeResolver> overwritingPaths = new ArrayList<>();
+		for (int i = manipulators.size() - 1; i >= 0; i--) {
+			if (dropped[i]) {
+				continue;
+			}
+
+			CompiledNodeResolver path = paths[i];
+			if (path == null) {
+				return;
+			}
+
+			ArbitraryManipulator manipulator = manipulators.get(i);
+			if (isWrite(manipulator.getNodeManipulator()) && anyCovers(overwritingPaths, path)) {
+				dropped[i] = true;
+				continue;
+			}
+
+			// a registered manipulator does not resolve the nodes of its path as not null
+			if (manipulator.getNodeResolver() instanceof CompiledNodeResolver
+				&& isOverwrite(manipulator.getNodeManipulator())
+				&& !anyOverlaps(path, laterPaths)) {
+				overwritingPaths.add(path);
+			}
+			laterPaths.add(path);
+		}
+	}
+
+	@Nullable
+	private static CompiledNodeResolver toPath(NodeResolver nodeResolver) {
+		if (nodeResolver instanceof CompiledNodeResolver) {
+			return (CompiledNodeResolver)nodeResolver;
+		}
+
+		if (nodeResolver instanceof IdentityNodeResolver) {
+			return ((IdentityNodeResolver)nodeResolver).getPath();
+		}
+		return null;
+	}
+
+	private static boolean anyCovers(List<CompiledNodeResolver> paths, CompiledNodeResolver path) {
+		for (CompiledNodeResolver each : paths) {
+			if (each.covers(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean anyOverlaps(CompiledNodeResolver path, List<CompiledNodeResolver> paths) {
+		for (CompiledNodeResolver each : paths) {
+			if (path.overlaps(each)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isBoundedSize(NodeManipulator nodeManipulator) {
+		if (!(nodeManipulator instanceof NodeSizeManipulator)) {
+			return false;
+		}
+
+		NodeSizeManipulator nodeSizeManipulator = (NodeSizeManipulator)nodeManipulator;
+		return nodeSizeManipulator.getMinSize() != null && nodeSizeManipulator.getMaxSize() != null;
+	}
+
+	private static boolean isWrite(NodeManipulator nodeManipulator) {
+		NodeManipulator unwrapped = unwrap(nodeManipulator);
+		return unwrapped instanceof NodeSetDecomposedValueManipulator
+			|| unwrapped instanceof NodeSetLazyManipulator
+			|| unwrapped instanceof NodeNullityManipulator;
+	}
+
+	private static boolean isOverwrite(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof ApplyNodeCountManipulator
+			&& !((ApplyNodeCountManipulator)nodeManipulator).isUnlimited()) {
+			return false;
+		}
+
+		NodeManipulator unwrapped = unwrap(nodeManipulator);
+		return unwrapped instanceof NodeSetDecomposedValueManipulator
+			|| unwrapped instanceof NodeSetLazyManipulator
+			|| (unwrapped instanceof NodeNullityManipulator && ((NodeNullityManipulator)unwrapped).isToNull());
+	}
+
+	private static NodeManipulator unwrap(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof ApplyNodeCountManipulator) {
+			return ((ApplyNodeCountManipulator)nodeManipulator).getNodeManipulator();
+		}
+		return nodeManipulator;
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.resolver;
+
+import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
+import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
+import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+
+/**
+ * Resolves nodes by walking the steps of an expression from the root in one loop.
+ * It resolves the same nodes as chaining {@link PropertyNameNodeResolver} and {@link ContainerElementNodeResolver},
+ * it is immutable and could be shared.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class CompiledNodeResolver implements NodeResolver {
+	private static final CompiledNodeResolver ROOT = new CompiledNodeResolver(new String[0], new int[0]);
+
+	// a null property name means the step is a container element
+	private final String[] propertyNames;
+	private final int[] sequences;
+
+	private CompiledNodeResolver(String[] propertyNames, int[] sequences) {
+		this.propertyNames = propertyNames;
+		this.sequences = sequences;
+	}
+
+	public static CompiledNodeResolver root() {
+		return ROOT;
+	}
+
+	public CompiledNodeResolver propertyName(String propertyName) {
+		return append(propertyName, NO_OR_ALL_INDEX_INTEGER_VALUE);
+	}
+
+	public CompiledNodeResolver element(int sequence) {
+		return append(null, sequence);
+	}
+
+	@Override
+	public List<ArbitraryNode> resolve(ArbitraryTree arbitraryTree) {
+		ArbitraryNode root = arbitraryTree.findRoot();
+		root.setArbitraryProperty(root.getArbitraryProperty().withNullInject(NOT_NULL_INJECT));
+		List<ArbitraryNode> nodes = Collections.singletonList(root);
+
+		for (int i = 0; i < propertyNames.length; i++) {
+			String propertyName = propertyNames[i];
+			int sequence = sequences[i];
+			List<ArbitraryNode> nextNodes = new ArrayList<>();
+			for (ArbitraryNode node : nodes) {
+				List<ArbitraryNode> children = propertyName != null
+					? node.findChildrenByResolvePropertyName(propertyName)
+					: node.findElementsBySequence(sequence);
+
+				for (ArbitraryNode child : children) {
+					child.setArbitraryProperty(child.getArbitraryProperty().withNullInject(NOT_NULL_INJECT));
+					nextNodes.add(child);
+				}
+			}
+			nodes = nextNodes;
+		}
+		return nodes;
+	}
+
+	/**
+	 * Returns whether every node resolved by the other is resolved by this or is a descendant of it.
+	 */
+	boolean covers(CompiledNodeResolver other) {
+		if (other.propertyNames.length < propertyNames.length) {
+			return false;
+		}
+
+		for (int i = 0; i < propertyNames.length; i++) {
+			String propertyName = propertyNames[i];
+			String otherPropertyName = other.propertyNames[i];
+			if (ALL_INDEX_STRING.equals(propertyName)) {
+				continue;
+			}
+
+			if (propertyName == null) {
+				if (otherPropertyName != null
+					|| (sequences[i] != NO_OR_ALL_INDEX_INTEGER_VALUE && sequences[i] != other.sequences[i])) {
+					return false;
+				}
+			} else if (!propertyName.equals(otherPropertyName)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the other could resolve a node resolved by this or a descendant of it.
+	 */
+	boolean overlaps(CompiledNodeResolver other) {
+		if (other.propertyNames.length < propertyNames.length) {
+			return false;
+		}
+
+		for (int i = 0; i < propertyNames.length; i++) {
+			if (isWildcard(i) || other.isWildcard(i)) {
+				continue;
+			}
+
+			String propertyName = propertyNames[i];
+			if (propertyName == null
+				? other.propertyNames[i] != null || sequences[i] != other.sequences[i]
+				: !propertyName.equals(other.propertyNames[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		CompiledNodeResolver that = (CompiledNodeResolver)obj;
+		return Arrays.equals(propertyNames, that.propertyNames)
+			&& Arrays.equals(sequences, that.sequences);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(propertyNames) + Arrays.hashCode(sequences);
+	}
+
+	private boolean isWildcard(int step) {
+		return propertyNames[step] == null
+			? sequences[step] == NO_OR_ALL_INDEX_INTEGER_VALUE
+			: ALL_INDEX_STRING.equals(propertyNames[step]);
+	}
+
+	private CompiledNodeResolver append(@Nullable String propertyName, int sequence) {
+		int length = propertyNames.length;
+		String[] newPropertyNames = Arrays.copyOf(propertyNames, length + 1);
+		int[] newSequences = Arrays.copyOf(sequences, length + 1);
+		newPropertyNames[length] = propertyName;
+		newSequences[length] = sequence;
+		return new CompiledNodeResolver(newPropertyNames, newSequences);
+	}
+}
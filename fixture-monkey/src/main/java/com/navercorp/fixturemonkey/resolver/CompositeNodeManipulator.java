@@ -34,4 +34,9 @@ public final class CompositeNodeManipulator implements NodeManipulator {
 			manipulator.manipulate(arbitraryNode);
 		}
 	}
+
+	@Override
+	public boolean isSampleDependent() {
+		return manipulators.stream().anyMatch(NodeManipulator::isSampleDependent);
+	}
 }
@@ -18,19 +18,14 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
-import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import com.navercorp.fixturemonkey.api.property.ElementProperty;
-import com.navercorp.fixturemonkey.api.property.Property;
-
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ContainerElementNodeResolver implements NodeResolver {
 	private final NodeResolver nodeResolver;
@@ -45,18 +40,8 @@ public final class ContainerElementNodeResolver implements NodeResolver {
 	public List<ArbitraryNode> resolve(ArbitraryTree arbitraryTree) {
 		List<ArbitraryNode> result = new ArrayList<>();
 
-		List<ArbitraryNode> previousNodes = nodeResolver.resolve(arbitraryTree).stream()
-			.flatMap(it -> it.getChildren().stream())
-			.collect(Collectors.toList());
-
-		for (ArbitraryNode node : previousNodes) {
-			Property property = node.getArbitraryProperty().getProperty();
-			if (!(property instanceof ElementProperty)) {
-				throw new IllegalArgumentException("Resolved node is not element type. : " + property);
-			}
-
-			ElementProperty elementProperty = (ElementProperty)property;
-			if (sequence == NO_OR_ALL_INDEX_INTEGER_VALUE || sequence == elementProperty.getSequence()) {
+		for (ArbitraryNode previousNode : nodeResolver.resolve(arbitraryTree)) {
+			for (ArbitraryNode node : previousNode.findElementsBySequence(sequence)) {
 				node.setArbitraryProperty(node.getArbitraryProperty().withNullInject(NOT_NULL_INJECT));
 				result.add(node);
 			}
@@ -26,6 +26,8 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -34,9 +36,14 @@ import org.apiguardian.api.API.Status;
 import com.navercorp.fixturemonkey.api.collection.IteratorCache;
 import com.navercorp.fixturemonkey.api.collection.StreamCache;
 
+/**
+ * Decomposes a container value by the decomposition resolved once for its runtime class.
+ * A {@link RandomAccess} list and an array are decomposed without copying.
+ */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class DefaultDecomposedContainerValueFactory implements DecomposedContainerValueFactory {
 	private final DecomposedContainerValueFactory additionalDecomposedContainerValueFactory;
+	private final Map<Class<?>, DecomposedContainerValueFactory> factoriesByType = new ConcurrentHashMap<>();
 
 	public DefaultDecomposedContainerValueFactory(
 		DecomposedContainerValueFactory additionalDecomposedContainerValueFactory
@@ -46,31 +53,36 @@ public final class DefaultDecomposedContainerValueFactory implements DecomposedC
 
 	@Override
 	public DecomposableContainerValue from(Object value) {
-		Class<?> actualType = value.getClass();
+		return factoriesByType.computeIfAbsent(value.getClass(), this::resolveFactory).from(value);
+	}
 
-		if (Iterable.class.isAssignableFrom(actualType)) {
-			Iterator<?> iterator = ((Iterable<?>)value).iterator();
-			List<?> list = IteratorCache.getList(iterator);
-			return new DecomposableContainerValue(list, list.size());
+	private DecomposedContainerValueFactory resolveFactory(Class<?> actualType) {
+		if (List.class.isAssignableFrom(actualType) && RandomAccess.class.isAssignableFrom(actualType)) {
+			return value -> new DecomposableContainerValue(value, ((List<?>)value).size());
+		} else if (Iterable.class.isAssignableFrom(actualType)) {
+			return value -> {
+				List<?> list = IteratorCache.getList(((Iterable<?>)value).iterator());
+				return new DecomposableContainerValue(list, list.size());
+			};
 		} else if (Iterator.class.isAssignableFrom(actualType)) {
-			Iterator<?> iterator = ((Iterator<?>)value);
-			List<?> list = IteratorCache.getList(iterator);
-			return new DecomposableContainerValue(list, list.size());
+			return value -> {
+				List<?> list = IteratorCache.getList((Iterator<?>)value);
+				return new DecomposableContainerValue(list, list.size());
+			};
 		} else if (Stream.class.isAssignableFrom(actualType)) {
-			List<?> container = StreamCache.getList((Stream<?>)value);
-			return new DecomposableContainerValue(container, container.size());
+			return value -> {
+				List<?> container = StreamCache.getList((Stream<?>)value);
+				return new DecomposableContainerValue(container, container.size());
+			};
 		} else if (actualType.isArray()) {
-			return new DecomposableContainerValue(value, Array.getLength(value));
+			return value -> new DecomposableContainerValue(value, Array.getLength(value));
 		} else if (Map.class.isAssignableFrom(actualType)) {
-			Map<?, ?> map = (Map<?, ?>)value;
-			return new DecomposableContainerValue(value, map.size());
-		} else if (Map.Entry.class.isAssignableFrom(actualType)) {
-			return new DecomposableContainerValue(value, 1);
-		} else if (isOptional(actualType)) {
-			return new DecomposableContainerValue(value, 1);
+			return value -> new DecomposableContainerValue(value, ((Map<?, ?>)value).size());
+		} else if (Map.Entry.class.isAssignableFrom(actualType) || isOptional(actualType)) {
+			return value -> new DecomposableContainerValue(value, 1);
 		}
 
-		return additionalDecomposedContainerValueFactory.from(value);
+		return additionalDecomposedContainerValueFactory;
 	}
 
 	private boolean isOptional(Class<?> type) {
@@ -0,0 +1,48 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Resolves the given node, the path is where the node was when the tree was traversed.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class IdentityNodeResolver implements NodeResolver {
+	private final ArbitraryNode arbitraryNode;
+	private final CompiledNodeResolver path;
+
+	public IdentityNodeResolver(ArbitraryNode arbitraryNode, CompiledNodeResolver path) {
+		this.arbitraryNode = arbitraryNode;
+		this.path = path;
+	}
+
+	public CompiledNodeResolver getPath() {
+		return path;
+	}
+
+	@Override
+	public List<ArbitraryNode> resolve(ArbitraryTree arbitraryTree) {
+		return Collections.singletonList(arbitraryNode);
+	}
+}
@@ -20,10 +20,14 @@ package com.navercorp.fixturemonkey.resolver;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary.LazyThreadSafetyMode;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
@@ -33,35 +37,51 @@ import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
 public final class ManipulateOptions {
 	private final MonkeyExpressionFactory defaultMonkeyExpressionFactory;
 
-	private final List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders;
+	private final List<MatcherOperator<LazyArbitrary<? extends ArbitraryBuilder<?>>>> registeredArbitraryBuilders;
 	private final DecomposedContainerValueFactory decomposedContainerValueFactory;
 
 	private final List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers;
 
 	private final PropertyNameResolver defaultPropertyNameResolver;
 
+	private final LazyThreadSafetyMode lazyThreadSafetyMode;
+
 	public ManipulateOptions(
 		MonkeyExpressionFactory defaultMonkeyExpressionFactory,
-		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders,
+		List<MatcherOperator<LazyArbitrary<? extends ArbitraryBuilder<?>>>> registeredArbitraryBuilders,
 		DecomposedContainerValueFactory decomposedContainerValueFactory,
 		List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers,
-		PropertyNameResolver defaultPropertyNameResolver
+		PropertyNameResolver defaultPropertyNameResolver,
+		LazyThreadSafetyMode lazyThreadSafetyMode
 	) {
 		this.defaultMonkeyExpressionFactory = defaultMonkeyExpressionFactory;
 		this.registeredArbitraryBuilders = registeredArbitraryBuilders;
 		this.decomposedContainerValueFactory = decomposedContainerValueFactory;
 		this.propertyNameResolvers = propertyNameResolvers;
 		this.defaultPropertyNameResolver = defaultPropertyNameResolver;
+		this.lazyThreadSafetyMode = lazyThreadSafetyMode;
 	}
 
 	public MonkeyExpressionFactory getDefaultMonkeyExpressionFactory() {
 		return defaultMonkeyExpressionFactory;
 	}
 
-	public List<MatcherOperator<? extends ArbitraryBuilder<?>>> getRegisteredArbitraryBuilders() {
+	public List<MatcherOperator<LazyArbitrary<? extends ArbitraryBuilder<?>>>> getRegisteredArbitraryBuilders() {
 		return registeredArbitraryBuilders;
 	}
 
+	/**
+	 * Returns the first registered builder matching given property, it is made on the first call.
+	 */
+	@Nullable
+	public ArbitraryBuilder<?> getRegisteredArbitraryBuilder(Property property) {
+		return this.registeredArbitraryBuilders.stream()
+			.filter(it -> it.match(property))
+			.findFirst()
+			.map(it -> it.getOperator().getValue())
+			.orElse(null);
+	}
+
 	public DecomposedContainerValueFactory getDecomposedContainerValueFactory() {
 		return decomposedContainerValueFactory;
 	}
@@ -74,6 +94,10 @@ public final class ManipulateOptions {
 			.orElse(this.defaultPropertyNameResolver);
 	}
 
+	public LazyThreadSafetyMode getLazyThreadSafetyMode() {
+		return lazyThreadSafetyMode;
+	}
+
 	public static ManipulateOptionsBuilder builder() {
 		return new ManipulateOptionsBuilder();
 	}
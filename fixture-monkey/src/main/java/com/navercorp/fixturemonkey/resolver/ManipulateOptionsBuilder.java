@@ -31,6 +31,8 @@ import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary.LazyThreadSafetyMode;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.arbitrary.ArbitraryExpressionFactory;
@@ -46,14 +48,17 @@ public final class ManipulateOptionsBuilder {
 	private List<MatcherOperator<Function<LabMonkey, ? extends ArbitraryBuilder<?>>>>
 		registeredArbitraryBuilders = new ArrayList<>();
 
-	private List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredSampledArbitraryBuilders = new ArrayList<>();
-
 	private DecomposedContainerValueFactory additionalDecomposedContainerValueFactory = null;
 
 	private List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers;
 
 	private PropertyNameResolver defaultPropertyNameResolver;
 
+	private LazyThreadSafetyMode lazyThreadSafetyMode = LazyThreadSafetyMode.NONE;
+
+	@Nullable
+	private LabMonkey registeringLabMonkey = null;
+
 	ManipulateOptionsBuilder() {
 	}
 
@@ -93,15 +98,62 @@ public final class ManipulateOptionsBuilder {
 		return this;
 	}
 
+	public ManipulateOptionsBuilder lazyThreadSafetyMode(LazyThreadSafetyMode lazyThreadSafetyMode) {
+		this.lazyThreadSafetyMode = lazyThreadSafetyMode;
+		return this;
+	}
+
+	/**
+	 * Registered builders would be made by given labMonkey when they are used.
+	 *
+	 * @deprecated use {@link #build(LabMonkey)} instead, it does not change this builder
+	 */
+	@Deprecated
+	public void sampleRegisteredArbitraryBuilder(LabMonkey labMonkey) {
+		this.registeringLabMonkey = labMonkey;
+	}
+
+	/**
+	 * Builds options with the registered builders made by the labMonkey
+	 * given by {@link #sampleRegisteredArbitraryBuilder(LabMonkey)}, without them if not given.
+	 */
 	public ManipulateOptions build() {
-		defaultMonkeyExpressionFactory = defaultIfNull(
+		if (registeringLabMonkey == null) {
+			return build(new ArrayList<>());
+		}
+		return build(registeringLabMonkey);
+	}
+
+	/**
+	 * Builds options with the registered builders made by given labMonkey, this builder is not changed.
+	 * Each registered builder is made once on its first use, so it could use the options of given labMonkey.
+	 */
+	public ManipulateOptions build(LabMonkey labMonkey) {
+		List<MatcherOperator<LazyArbitrary<? extends ArbitraryBuilder<?>>>> registeredSampledArbitraryBuilders =
+			registeredArbitraryBuilders.stream()
+				.map(operator -> new MatcherOperator<LazyArbitrary<? extends ArbitraryBuilder<?>>>(
+						operator.getMatcher(),
+						LazyArbitrary.lazy(
+							() -> operator.getOperator().apply(labMonkey),
+							LazyThreadSafetyMode.SYNCHRONIZED
+						)
+					)
+				)
+				.collect(Collectors.toList());
+		return build(registeredSampledArbitraryBuilders);
+	}
+
+	private ManipulateOptions build(
+		List<MatcherOperator<LazyArbitrary<? extends ArbitraryBuilder<?>>>> registeredSampledArbitraryBuilders
+	) {
+		MonkeyExpressionFactory monkeyExpressionFactory = defaultIfNull(
 			this.defaultMonkeyExpressionFactory,
 			ArbitraryExpressionFactory::new
 		);
 
 		if (expressionStrictMode) {
-			MonkeyExpressionFactory currentMonkeyExpressionFactory = defaultMonkeyExpressionFactory;
-			defaultMonkeyExpressionFactory = expression ->
+			MonkeyExpressionFactory currentMonkeyExpressionFactory = monkeyExpressionFactory;
+			monkeyExpressionFactory = expression ->
 				() -> new ApplyStrictModeResolver(currentMonkeyExpressionFactory.from(expression).toNodeResolver());
 		}
 
@@ -110,24 +162,15 @@ public final class ManipulateOptionsBuilder {
 		);
 
 		return new ManipulateOptions(
-			defaultMonkeyExpressionFactory,
+			monkeyExpressionFactory,
 			registeredSampledArbitraryBuilders,
 			decomposedContainerValueFactory,
 			propertyNameResolvers,
-			defaultPropertyNameResolver
+			defaultPropertyNameResolver,
+			lazyThreadSafetyMode
 		);
 	}
 
-	public void sampleRegisteredArbitraryBuilder(LabMonkey labMonkey) {
-		registeredSampledArbitraryBuilders = registeredArbitraryBuilders.stream()
-			.map(operator -> new MatcherOperator<>(
-					operator.getMatcher(),
-					operator.getOperator().apply(labMonkey)
-				)
-			)
-			.collect(Collectors.toList());
-	}
-
 	private static <T> T defaultIfNull(@Nullable T obj, Supplier<T> defaultValue) {
 		return obj != null ? obj : defaultValue.get();
 	}
@@ -52,4 +52,10 @@ public final class MapNodeManipulator implements NodeManipulator {
 			valueManipulator.manipulate(entryNode.getChildren().get(1));
 		}
 	}
+
+	@Override
+	public boolean isSampleDependent() {
+		return keyManipulators.stream().anyMatch(NodeManipulator::isSampleDependent)
+			|| valueManipulators.stream().anyMatch(NodeManipulator::isSampleDependent);
+	}
 }
@@ -46,4 +46,9 @@ public final class NodeFilterManipulator implements NodeManipulator {
 		}
 		arbitraryNode.addArbitraryFilter(filter);
 	}
+
+	@Override
+	public boolean isSampleDependent() {
+		return false;
+	}
 }
@@ -25,4 +25,14 @@ import org.apiguardian.api.API.Status;
 @FunctionalInterface
 public interface NodeManipulator {
 	void manipulate(ArbitraryNode arbitraryNode);
+
+	/**
+	 * Whether it could manipulate differently for each sample, such as setting a lazily evaluated value.
+	 * A resolution is reused among samples only if none of its manipulators is sample dependent.
+	 *
+	 * @return true by default, as an unknown manipulator could not be reused safely
+	 */
+	default boolean isSampleDependent() {
+		return true;
+	}
 }
@@ -28,6 +28,10 @@ public class NodeNullityManipulator implements NodeManipulator {
 		this.toNull = toNull;
 	}
 
+	public boolean isToNull() {
+		return toNull;
+	}
+
 	@Override
 	public void manipulate(ArbitraryNode arbitraryNode) {
 		if (toNull) {
@@ -48,4 +52,12 @@ public class NodeNullityManipulator implements NodeManipulator {
 			);
 		}
 	}
+
+	/**
+	 * A node arbitrary is only set as {@code Arbitraries.just} unless there is a sample dependent manipulator.
+	 */
+	@Override
+	public boolean isSampleDependent() {
+		return false;
+	}
 }
@@ -90,10 +90,16 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 			return;
 		}
 
+		// a fixed arbitrary of a previous manipulation would hide the decomposed children
+		arbitraryNode.setArbitrary(null);
 		for (ArbitraryNode child : children) {
 			Property childProperty = child.getProperty();
 			setValue(child, childProperty.getValue(value));
 		}
 	}
 
+	@Override
+	public boolean isSampleDependent() {
+		return false;
+	}
 }
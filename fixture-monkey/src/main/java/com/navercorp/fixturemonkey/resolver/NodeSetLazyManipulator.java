@@ -24,6 +24,7 @@ import org.apiguardian.api.API.Status;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class NodeSetLazyManipulator<T> implements NodeManipulator {
@@ -53,11 +54,16 @@ public final class NodeSetLazyManipulator<T> implements NodeManipulator {
 		}
 
 		if (value instanceof Arbitrary) {
-			value = (T)((Arbitrary<?>)value).sample();
+			value = (T)Randoms.sample((Arbitrary<?>)value);
 		}
 
 		NodeSetDecomposedValueManipulator<T> nodeSetDecomposedValueManipulator =
 			new NodeSetDecomposedValueManipulator<>(traverser, manipulateOptions, value);
 		nodeSetDecomposedValueManipulator.manipulate(arbitraryNode);
 	}
+
+	@Override
+	public boolean isSampleDependent() {
+		return true;
+	}
 }
@@ -29,6 +29,16 @@ public final class NodeSizeManipulator implements NodeManipulator {
 		this.maxSize = maxSize;
 	}
 
+	@Nullable
+	public Integer getMinSize() {
+		return minSize;
+	}
+
+	@Nullable
+	public Integer getMaxSize() {
+		return maxSize;
+	}
+
 	@Override
 	public void manipulate(ArbitraryNode arbitraryNode) {
 		ArbitraryProperty arbitraryProperty = arbitraryNode.getArbitraryProperty();
@@ -79,4 +89,9 @@ public final class NodeSizeManipulator implements NodeManipulator {
 		leftNode.setChildren(result);
 		return leftNode;
 	}
+
+	@Override
+	public boolean isSampleDependent() {
+		return false;
+	}
 }
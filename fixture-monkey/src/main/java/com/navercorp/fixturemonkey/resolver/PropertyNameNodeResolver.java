@@ -18,12 +18,10 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
-import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -42,13 +40,8 @@ public final class PropertyNameNodeResolver implements NodeResolver {
 	public List<ArbitraryNode> resolve(ArbitraryTree arbitraryTree) {
 		List<ArbitraryNode> result = new ArrayList<>();
 
-		List<ArbitraryNode> previousNodes = nodeResolver.resolve(arbitraryTree).stream()
-			.flatMap(it -> it.getChildren().stream())
-			.collect(Collectors.toList());
-
-		for (ArbitraryNode node : previousNodes) {
-			String nodePropertyName = node.getArbitraryProperty().getResolvePropertyName();
-			if (propertyName.equals(ALL_INDEX_STRING) || propertyName.equals(nodePropertyName)) {
+		for (ArbitraryNode previousNode : nodeResolver.resolve(arbitraryTree)) {
+			for (ArbitraryNode node : previousNode.findChildrenByResolvePropertyName(propertyName)) {
 				node.setArbitraryProperty(node.getArbitraryProperty().withNullInject(NOT_NULL_INJECT));
 				result.add(node);
 			}
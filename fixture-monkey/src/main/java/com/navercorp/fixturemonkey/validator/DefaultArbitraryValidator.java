@@ -18,7 +18,9 @@
 
 package com.navercorp.fixturemonkey.validator;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -26,11 +28,19 @@ import javax.validation.Validation;
 import javax.validation.Validator;
 
 public final class DefaultArbitraryValidator implements ArbitraryValidator {
+	// a provider specific property, Hibernate Validator stops at the first violation, others ignore it
+	private static final String FAIL_FAST_PROPERTY = "hibernate.validator.fail_fast";
+
+	private final Map<Class<?>, Boolean> constrainedTypes = new ConcurrentHashMap<>();
 	private Validator validator;
 
 	public DefaultArbitraryValidator() {
 		try {
-			this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+			this.validator = Validation.byDefaultProvider()
+				.configure()
+				.addProperty(FAIL_FAST_PROPERTY, "true")
+				.buildValidatorFactory()
+				.getValidator();
 		} catch (Exception e) {
 			this.validator = null;
 		}
@@ -38,7 +48,7 @@ public final class DefaultArbitraryValidator implements ArbitraryValidator {
 
 	@Override
 	public void validate(Object arbitrary) {
-		if (this.validator != null) {
+		if (this.validator != null && isConstrained(arbitrary.getClass())) {
 			Set<ConstraintViolation<Object>> violations = this.validator.validate(arbitrary);
 			if (!violations.isEmpty()) {
 				throw new ConstraintViolationException(
@@ -46,4 +56,12 @@ public final class DefaultArbitraryValidator implements ArbitraryValidator {
 			}
 		}
 	}
+
+	// a type which has no constraint and no cascaded property never has a violation
+	private boolean isConstrained(Class<?> type) {
+		return constrainedTypes.computeIfAbsent(
+			type,
+			it -> this.validator.getConstraintsForClass(it).isBeanConstrained()
+		);
+	}
 }
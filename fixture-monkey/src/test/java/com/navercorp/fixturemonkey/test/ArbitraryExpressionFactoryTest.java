@@ -0,0 +1,71 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import net.jqwik.api.Example;
+
+import com.navercorp.fixturemonkey.arbitrary.ArbitraryExpressionFactory;
+import com.navercorp.fixturemonkey.expression.MonkeyExpression;
+
+class ArbitraryExpressionFactoryTest {
+	@Example
+	void fromIndexedExpressionCached() {
+		// given
+		ArbitraryExpressionFactory sut = new ArbitraryExpressionFactory();
+		MonkeyExpression first = sut.from("values[0].name");
+
+		// when
+		MonkeyExpression actual = sut.from("values[0].name");
+
+		// then
+		then(actual).isSameAs(first);
+		then(actual.toNodeResolver()).isSameAs(first.toNodeResolver());
+	}
+
+	@Example
+	void fromLeastRecentlyUsedEvicted() {
+		// given
+		ArbitraryExpressionFactory sut = new ArbitraryExpressionFactory(1);
+		MonkeyExpression first = sut.from("values[0]");
+		sut.from("values[1]");
+
+		// when
+		MonkeyExpression actual = sut.from("values[0]");
+
+		// then
+		then(actual).isNotSameAs(first);
+	}
+
+	@Example
+	void fromPrecompiledNotEvicted() {
+		// given
+		ArbitraryExpressionFactory sut = new ArbitraryExpressionFactory(1).precompile("values[*]");
+		MonkeyExpression first = sut.from("values[*]");
+		sut.from("values[0]");
+		sut.from("values[1]");
+
+		// when
+		MonkeyExpression actual = sut.from("values[*]");
+
+		// then
+		then(actual).isSameAs(first);
+	}
+}
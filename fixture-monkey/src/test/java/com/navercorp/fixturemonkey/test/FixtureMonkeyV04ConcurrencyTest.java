@@ -0,0 +1,147 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Property;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.StringAndInt;
+import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.StringValue;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.ComplexObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.SimpleObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.StringPair;
+
+class FixtureMonkeyV04ConcurrencyTest {
+	private static final LabMonkey SUT = LabMonkey.labMonkey();
+	private static final int THREAD_COUNT = 8;
+	private static final int TASK_COUNT = 400;
+
+	@Property(tries = 1)
+	void giveMeOneConcurrently() throws Exception {
+		List<ComplexObject> actual = runConcurrently(index -> SUT.giveMeOne(ComplexObject.class));
+
+		then(actual).hasSize(TASK_COUNT);
+	}
+
+	@Property(tries = 1)
+	void giveMeConcurrently() throws Exception {
+		List<List<SimpleObject>> actual = runConcurrently(index -> SUT.giveMe(SimpleObject.class, 3));
+
+		then(actual).allSatisfy(it -> then(it).hasSize(3));
+	}
+
+	@Property(tries = 1)
+	void giveMeBuilderSetConcurrently() throws Exception {
+		List<Boolean> actual = runConcurrently(index -> {
+			String expected = "value" + index;
+			StringPair stringPair = SUT.giveMeBuilder(StringPair.class)
+				.set("value1", expected)
+				.sample();
+			return expected.equals(stringPair.getValue1());
+		});
+
+		then(actual).containsOnly(true);
+	}
+
+	@Property(tries = 1)
+	void sampleSharedBuilderConcurrently() throws Exception {
+		ArbitraryBuilder<StringValue> builder = SUT.giveMeBuilder(StringValue.class)
+			.set("value", Arbitraries.strings().ofLength(3));
+
+		List<StringValue> actual = runConcurrently(index -> builder.sample());
+
+		then(actual).allSatisfy(it -> then(it.getValue()).hasSize(3));
+	}
+
+	@Property(tries = 1)
+	void sampleRegisteredConcurrently() throws Exception {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.register(
+				StringValue.class,
+				fixture -> fixture.giveMeBuilder(StringValue.class)
+					.set("value", Arbitraries.strings().ofLength(3))
+			)
+			.build();
+
+		List<StringAndInt> actual = runConcurrently(
+			index -> sut.giveMeBuilder(StringAndInt.class)
+				.setNotNull("value1")
+				.sample()
+		);
+
+		then(actual).allSatisfy(it -> then(it.getValue1().getValue()).hasSize(3));
+	}
+
+	@Property(tries = 1)
+	void giveMeParallelConcurrently() throws Exception {
+		List<List<StringValue>> actual = runConcurrently(index -> SUT.giveMeParallel(StringValue.class, 4, 2));
+
+		then(actual).allSatisfy(it -> then(it).hasSize(4));
+	}
+
+	private static <T> List<T> runConcurrently(IntFunction<T> task) throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch ready = new CountDownLatch(1);
+		try {
+			List<Future<T>> futures = new ArrayList<>();
+			for (int i = 0; i < TASK_COUNT; i++) {
+				int index = i;
+				Callable<T> callable = () -> {
+					ready.await();
+					return task.apply(index);
+				};
+				futures.add(executorService.submit(callable));
+			}
+			ready.countDown();
+
+			List<T> result = new ArrayList<>();
+			for (Future<T> future : futures) {
+				result.add(getValue(future));
+			}
+			return result;
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static <T> T getValue(Future<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof Exception) {
+				throw (Exception)ex.getCause();
+			}
+			throw ex;
+		}
+	}
+}
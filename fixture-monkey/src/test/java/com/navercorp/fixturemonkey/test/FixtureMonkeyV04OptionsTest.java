@@ -63,6 +63,7 @@ import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.resolver.DecomposableContainerValue;
 import com.navercorp.fixturemonkey.resolver.RootNodeResolver;
+import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.StringValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.Pair;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PairArbitraryPropertyGenerator;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PairIntrospector;
@@ -700,6 +701,18 @@ class FixtureMonkeyV04OptionsTest {
 		then(actual).isEqualTo("test");
 	}
 
+	@Property
+	void registeredBuilderUsesOtherRegistered() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.register(StringValue.class, monkey -> monkey.giveMeBuilder(StringValue.class).set("value", "test"))
+			.register(String.class, monkey -> monkey.giveMeBuilder(StringValue.class).map(StringValue::getValue))
+			.build();
+
+		String actual = sut.giveMeOne(String.class);
+
+		then(actual).isEqualTo("test");
+	}
+
 	@Property
 	void registerGroup() {
 		LabMonkey sut = LabMonkey.labMonkeyBuilder()
@@ -878,6 +891,32 @@ class FixtureMonkeyV04OptionsTest {
 		then(pair).isNotNull();
 	}
 
+	@Property
+	void setNewContainerByAddContainerType() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.addContainerType(
+				Pair.class,
+				new PairArbitraryPropertyGenerator(),
+				new PairIntrospector(),
+				(obj) -> {
+					Pair<?, ?> pair = (Pair<?, ?>)obj;
+					List<Object> list = new ArrayList<>();
+					list.add(pair.getFirst());
+					list.add(pair.getSecond());
+					return new DecomposableContainerValue(list, 2);
+				}
+			)
+			.build();
+
+		Pair<String, String> actual = sut.giveMeBuilder(new TypeReference<Pair<String, String>>() {
+			})
+			.set("$", new Pair<>("first", "second"))
+			.sample();
+
+		then(actual.getFirst()).isEqualTo("first");
+		then(actual.getSecond()).isEqualTo("second");
+	}
+
 	@Property
 	void plugin() {
 		LabMonkey sut = LabMonkey.labMonkeyBuilder()
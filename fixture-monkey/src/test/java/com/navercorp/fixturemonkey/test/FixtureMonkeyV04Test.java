@@ -22,13 +22,16 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,7 +39,9 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,21 +50,32 @@ import javax.annotation.Nullable;
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Property;
+import net.jqwik.api.TooManyFilterMissesException;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.ArbitraryBuilders;
 import com.navercorp.fixturemonkey.LabMonkey;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.generator.ChildArbitraryContext;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary.LazyThreadSafetyMode;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.api.listener.InMemoryGenerationMetrics;
+import com.navercorp.fixturemonkey.api.listener.InMemoryGenerationMetrics.TypeMetrics;
 import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.postcondition.LengthPostCondition;
+import com.navercorp.fixturemonkey.api.postcondition.RangePostCondition;
+import com.navercorp.fixturemonkey.api.random.RandomGeneratorFactory;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.resolver.CollapsingManipulatorOptimizer;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.IntValue;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.NestedStringList;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.StringAndInt;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.StringValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.ComplexObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.ListWithAnnotation;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.SimpleEnum;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.SimpleObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.StringPair;
 
@@ -675,6 +691,58 @@ class FixtureMonkeyV04Test {
 		then(actual).hasSizeGreaterThan(5);
 	}
 
+	@Property
+	void setPostConditionRangeGeneratesWithinRange() {
+		// when
+		Integer actual = SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("wrapperInteger", Integer.class, RangePostCondition.between(1_000_000, 1_000_001))
+			.sample()
+			.getWrapperInteger();
+
+		// then
+		then(actual).isBetween(1_000_000, 1_000_001);
+	}
+
+	@Property
+	void setPostConditionRangeGeneratesDoubleWithinRange() {
+		// when
+		Double actual = SUT.giveMeBuilder(Double.class)
+			.setPostCondition("$", Double.class, RangePostCondition.between(
+				new BigDecimal("1000000.125"),
+				new BigDecimal("1000000.25")
+			))
+			.sample();
+
+		// then
+		then(actual).isBetween(1000000.125, 1000000.25);
+	}
+
+	@Property
+	void setPostConditionRangeGeneratesBigDecimalWithinRange() {
+		// when
+		BigDecimal actual = SUT.giveMeBuilder(BigDecimal.class)
+			.setPostCondition("$", BigDecimal.class, RangePostCondition.between(
+				new BigDecimal("0.001"),
+				new BigDecimal("0.002")
+			))
+			.sample();
+
+		// then
+		then(actual).isBetween(new BigDecimal("0.001"), new BigDecimal("0.002"));
+	}
+
+	@Property
+	void setPostConditionLengthGeneratesWithinLength() {
+		// when
+		String actual = SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("str", String.class, LengthPostCondition.ofLength(30))
+			.sample()
+			.getStr();
+
+		// then
+		then(actual).hasSize(30);
+	}
+
 	@Property
 	void setPostConditionWrongTypeThrows() {
 		thenThrownBy(
@@ -997,6 +1065,19 @@ class FixtureMonkeyV04Test {
 		then(actual.get(0)).isEqualTo(expected);
 	}
 
+	@Property
+	void sizeBiggerSetsAddedElement() {
+		List<String> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 1)
+			.set("strList[0]", "first")
+			.size("strList", 2)
+			.set("strList[1]", "second")
+			.sample()
+			.getStrList();
+
+		then(actual).containsExactly("first", "second");
+	}
+
 	@Property
 	void applySetElementNull() {
 		String actual = SUT.giveMeBuilder(ComplexObject.class)
@@ -1079,6 +1160,14 @@ class FixtureMonkeyV04Test {
 				.sample());
 	}
 
+	@Property(tries = 1)
+	void sampleInvalidThrows() {
+		thenThrownBy(() -> SUT.giveMeBuilder(ListWithAnnotation.class)
+			.size("values", 0)
+			.sample()
+		).isExactlyInstanceOf(TooManyFilterMissesException.class);
+	}
+
 	@Property
 	void giveMePrimitiveArrayToBuilder() {
 		int[] actual = SUT.giveMeBuilder(ComplexObject.class)
@@ -1284,4 +1373,330 @@ class FixtureMonkeyV04Test {
 
 		then(actual).isNull();
 	}
+
+	@Property
+	void sampleNotAffectedByManipulatedSampleOfSameType() {
+		SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 5)
+			.sample();
+
+		List<String> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.setNotNull("strList")
+			.sample()
+			.getStrList();
+
+		then(actual).hasSizeLessThanOrEqualTo(3);
+	}
+
+	@Property(tries = 1)
+	void sampleListContainerSizeVaries() {
+		Set<Integer> actual = SUT.giveMeBuilder(new TypeReference<List<String>>() {
+			})
+			.setNotNull("$")
+			.sampleList(30)
+			.stream()
+			.map(List::size)
+			.collect(Collectors.toSet());
+
+		then(actual).hasSizeGreaterThan(1);
+	}
+
+	@Property(tries = 1)
+	void giveMeParallel() {
+		List<StringValue> actual = SUT.giveMeParallel(StringValue.class, 100, 4);
+
+		then(actual).hasSize(100);
+	}
+
+	@Property(tries = 1)
+	void sampleListParallelSameSeedReturnsSameList() {
+		ArbitraryBuilder<StringValue> builder = SUT.giveMeBuilder(StringValue.class);
+
+		List<StringValue> actual = builder.sampleListParallel(50, 3, 12345L);
+
+		List<StringValue> expected = builder.sampleListParallel(50, 3, 12345L);
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property(tries = 1)
+	void sampleListParallelNotNull() {
+		List<ComplexObject> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.setNotNull("object")
+			.setNotNull("list[*]")
+			.sampleListParallel(200, 4);
+
+		then(actual).hasSize(200)
+			.allMatch(it -> it.getObject() != null);
+	}
+
+	@Property(tries = 1)
+	void sampleListParallelWithSynchronizedLazy() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.lazyThreadSafetyMode(LazyThreadSafetyMode.SYNCHRONIZED)
+			.build();
+
+		List<StringValue> actual = sut.giveMeBuilder(StringValue.class)
+			.setLazy("value", () -> "test")
+			.sampleListParallel(20, 4);
+
+		then(actual).allMatch(it -> "test".equals(it.getValue()));
+	}
+
+	@Property(tries = 1)
+	void sampleListWithSetGeneratesOtherPropertiesEachSample() {
+		List<StringPair> actual = SUT.giveMeBuilder(StringPair.class)
+			.set("value1", "test")
+			.setNotNull("value2")
+			.sampleList(30);
+
+		then(actual).allMatch(it -> "test".equals(it.getValue1()));
+		then(actual.stream().map(StringPair::getValue2).collect(Collectors.toSet())).hasSizeGreaterThan(1);
+	}
+
+	@Property(tries = 1)
+	void sampleListWithSetLazyEvaluatesEachSample() {
+		AtomicInteger count = new AtomicInteger();
+
+		List<StringValue> actual = SUT.giveMeBuilder(StringValue.class)
+			.setLazy("value", () -> String.valueOf(count.getAndIncrement()))
+			.sampleList(5);
+
+		then(actual.stream().map(StringValue::getValue).collect(Collectors.toSet())).hasSize(5);
+	}
+
+	@Property(tries = 1)
+	void sampleListWithRandomGeneratorFactorySameSeedReturnsSameList() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.randomGeneratorFactory(RandomGeneratorFactory.XOROSHIRO_128_PLUS_PLUS)
+			.build();
+
+		Randoms.create("1234");
+		List<SimpleObject> actual = sut.giveMeBuilder(SimpleObject.class).sampleList(10);
+
+		Randoms.create("1234");
+		List<SimpleObject> expected = sut.giveMeBuilder(SimpleObject.class).sampleList(10);
+		// an instant is generated around now
+		then(actual).usingElementComparatorIgnoringFields("instant").isEqualTo(expected);
+	}
+
+	@Property(tries = 1)
+	void generateWithRandomGeneratorFactorySameRandomReturnsSame() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.randomGeneratorFactory(RandomGeneratorFactory.SPLIT_MIX_64)
+			.build();
+		Arbitrary<StringPair> arbitrary = sut.giveMeBuilder(StringPair.class).build();
+
+		StringPair actual = arbitrary.generator(1000).next(new Random(1234L)).value();
+
+		StringPair expected = arbitrary.generator(1000).next(new Random(1234L)).value();
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property(tries = 1)
+	void generateWithRandomGeneratorFactorySameRandomReturnsSameContainers() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.randomGeneratorFactory(RandomGeneratorFactory.SPLIT_MIX_64)
+			.build();
+		LabMonkey other = LabMonkey.labMonkeyBuilder()
+			.randomGeneratorFactory(RandomGeneratorFactory.SPLIT_MIX_64)
+			.build();
+
+		List<List<String>> actual = sut.giveMeBuilder(new TypeReference<List<List<String>>>() {
+			})
+			.build()
+			.generator(1000)
+			.next(new Random(1234L))
+			.value();
+
+		List<List<String>> expected = other.giveMeBuilder(new TypeReference<List<List<String>>>() {
+			})
+			.build()
+			.generator(1000)
+			.next(new Random(1234L))
+			.value();
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property(tries = 1)
+	void sizeEnumSetCappedByEnumConstants() {
+		Set<SimpleEnum> actual = SUT.giveMeBuilder(new TypeReference<Set<SimpleEnum>>() {
+			})
+			.size("$", 10)
+			.setNotNull("$[*]")
+			.sample();
+
+		then(actual).containsExactlyInAnyOrder(SimpleEnum.values());
+	}
+
+	@Property(tries = 1)
+	void sizeEnumKeyMapCappedByEnumConstants() {
+		Map<SimpleEnum, String> actual = SUT.giveMeBuilder(new TypeReference<Map<SimpleEnum, String>>() {
+			})
+			.size("$", 10)
+			.sample();
+
+		then(actual).hasSizeLessThanOrEqualTo(SimpleEnum.values().length);
+	}
+
+	@Property(tries = 1)
+	void sizeSetGeneratesUniqueElements() {
+		Set<String> actual = SUT.giveMeBuilder(new TypeReference<Set<String>>() {
+			})
+			.size("$", 5)
+			.sample();
+
+		then(actual).hasSize(5);
+	}
+
+	@Property(tries = 1)
+	void sampleWithoutShrinking() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.shrinking(false)
+			.build();
+
+		ComplexObject actual = sut.giveMeBuilder(ComplexObject.class)
+			.set("str", "test")
+			.size("strList", 3)
+			.sample();
+
+		then(actual.getStr()).isEqualTo("test");
+		then(actual.getStrList()).hasSize(3);
+	}
+
+	@Property(tries = 1)
+	void generationListenerCollectsMetrics() {
+		InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(metrics)
+			.build();
+
+		sut.giveMeBuilder(ComplexObject.class)
+			.set("str", "test")
+			.sample();
+
+		TypeMetrics actual = metrics.getMetrics(ComplexObject.class);
+		then(actual).isNotNull();
+		then(actual.getPhase(GenerationPhase.TRAVERSE).getCount()).isEqualTo(1);
+		then(actual.getPhase(GenerationPhase.GENERATE).getCount()).isEqualTo(1);
+		then(actual.getPhase(GenerationPhase.SAMPLE).getCount()).isEqualTo(1);
+		then(actual.getNodeCounts().getMax()).isGreaterThan(1);
+		then(actual.getResolveCacheMisses()).isEqualTo(1);
+		then(metrics.report()).contains(ComplexObject.class.getTypeName());
+	}
+
+	@Property(tries = 1)
+	void giveMeOneReusesResolution() {
+		InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(metrics)
+			.build();
+
+		sut.giveMeOne(StringPair.class);
+		sut.giveMeOne(StringPair.class);
+		sut.giveMeOne(StringPair.class);
+
+		TypeMetrics actual = metrics.getMetrics(StringPair.class);
+		then(actual.getResolveCacheMisses()).isEqualTo(1);
+		then(actual.getResolveCacheHits()).isEqualTo(2);
+	}
+
+	@Property
+	void collapsingOptimizerDropsOverwrittenSet() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.manipulatorOptimizer(new CollapsingManipulatorOptimizer())
+			.build();
+		AtomicInteger count = new AtomicInteger();
+
+		String actual = sut.giveMeBuilder(SimpleObject.class)
+			.setLazy("str", () -> String.valueOf(count.getAndIncrement()))
+			.set("str", "test")
+			.sample()
+			.getStr();
+
+		then(actual).isEqualTo("test");
+		then(count.get()).isZero();
+	}
+
+	@Property
+	void collapsingOptimizerDropsSetOfNullParent() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.manipulatorOptimizer(new CollapsingManipulatorOptimizer())
+			.build();
+		AtomicInteger count = new AtomicInteger();
+
+		SimpleObject actual = sut.giveMeBuilder(ComplexObject.class)
+			.setLazy("object.str", () -> String.valueOf(count.getAndIncrement()))
+			.setNull("object")
+			.sample()
+			.getObject();
+
+		then(actual).isNull();
+		then(count.get()).isZero();
+	}
+
+	@Property
+	void collapsingOptimizerKeepsSetOfNullParentSetAgain() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.manipulatorOptimizer(new CollapsingManipulatorOptimizer())
+			.build();
+
+		SimpleObject actual = sut.giveMeBuilder(ComplexObject.class)
+			.set("object.str", "test")
+			.setNull("object")
+			.set("object.integer", 1)
+			.sample()
+			.getObject();
+
+		then(actual.getStr()).isEqualTo("test");
+		then(actual.getInteger()).isEqualTo(1);
+	}
+
+	@Property
+	void collapsingOptimizerFusesSizes() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.manipulatorOptimizer(new CollapsingManipulatorOptimizer())
+			.build();
+
+		List<String> actual = sut.giveMeBuilder(ComplexObject.class)
+			.size("strList", 1)
+			.size("strList", 3)
+			.sample()
+			.getStrList();
+
+		then(actual).hasSize(3);
+	}
+
+	@Property
+	void collapsingOptimizerDropsOverwrittenRegisteredBuilder() {
+		AtomicInteger count = new AtomicInteger();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.manipulatorOptimizer(new CollapsingManipulatorOptimizer())
+			.register(
+				SimpleObject.class,
+				monkey -> monkey.giveMeBuilder(SimpleObject.class)
+					.setLazy("str", () -> String.valueOf(count.getAndIncrement()))
+			)
+			.build();
+		SimpleObject object = new SimpleObject();
+		object.setStr("test");
+
+		SimpleObject actual = sut.giveMeBuilder(SimpleObject.class)
+			.set("$", object)
+			.sample();
+
+		then(actual.getStr()).isEqualTo("test");
+		then(count.get()).isZero();
+	}
+
+	@Property
+	void setNotRandomAccessList() {
+		List<String> expected = new LinkedList<>(Arrays.asList("a", "b", "c"));
+
+		List<String> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.set("strList", expected)
+			.sample()
+			.getStrList();
+
+		then(actual).isEqualTo(expected);
+	}
 }